@@ -12,16 +12,17 @@ import seedu.module.commons.core.LogsCenter;
 import seedu.module.commons.core.Version;
 import seedu.module.commons.exceptions.DataConversionException;
 import seedu.module.commons.util.ConfigUtil;
+import seedu.module.commons.util.FileUtil;
 import seedu.module.commons.util.StringUtil;
 import seedu.module.logic.Logic;
 import seedu.module.logic.LogicManager;
 import seedu.module.model.Model;
 import seedu.module.model.ModelManager;
 import seedu.module.model.ModuleBook;
-import seedu.module.model.ModuleManager;
 import seedu.module.model.ReadOnlyModuleBook;
 import seedu.module.model.ReadOnlyUserPrefs;
 import seedu.module.model.UserPrefs;
+import seedu.module.model.task.ModuleCatalog;
 import seedu.module.model.util.SampleDataUtil;
 import seedu.module.storage.JsonModuleBookStorage;
 import seedu.module.storage.JsonUserPrefsStorage;
@@ -57,6 +58,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        initModuleCatalog(userPrefs);
         ModuleBookStorage moduleBookStorage = new JsonModuleBookStorage(userPrefs.getModuleBookFilePath());
         storage = new StorageManager(moduleBookStorage, userPrefsStorage);
 
@@ -75,7 +77,6 @@ public class MainApp extends Application {
      * or an empty module book will be used instead if errors occur when reading {@code storage}'s module book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ModuleManager m = new ModuleManager();
         Optional<ReadOnlyModuleBook> moduleBookOptional;
         ReadOnlyModuleBook initialData;
         try {
@@ -92,12 +93,33 @@ public class MainApp extends Application {
             initialData = new ModuleBook();
         }
 
-        Model resultModel = new ModelManager(initialData, userPrefs);
+        Model resultModel = initialData instanceof ModuleBook
+                ? ModelManager.ofModuleBook((ModuleBook) initialData, userPrefs)
+                : new ModelManager(initialData, userPrefs);
         resultModel.refreshTasks();
+        resultModel.clearModuleBookHistory();
 
         return resultModel;
     }
 
+    /**
+     * Supports the module codes in {@code userPrefs}'s module catalog file in addition to the bundled module codes.
+     * Only the bundled module codes are supported if the file is not found or cannot be read.
+     */
+    private void initModuleCatalog(ReadOnlyUserPrefs userPrefs) {
+        Path catalogFilePath = userPrefs.getModuleCatalogFilePath();
+        ModuleCatalog catalog = ModuleCatalog.ofBundledCatalog();
+        if (FileUtil.isFileExists(catalogFilePath)) {
+            try {
+                catalog = catalog.withModuleCodesFrom(catalogFilePath);
+                logger.info("Using module catalog file : " + catalogFilePath);
+            } catch (IOException e) {
+                logger.warning("Problem while reading the module catalog file. Will only support the bundled modules");
+            }
+        }
+        ModuleCatalog.setCatalog(catalog);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
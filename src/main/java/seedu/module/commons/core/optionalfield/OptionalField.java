@@ -52,6 +52,11 @@ public class OptionalField<T> {
         return this.getField().equals(((OptionalField<?>) other).getField());
     }
 
+    @Override
+    public int hashCode() {
+        return isNull ? 0 : nullableField.hashCode();
+    }
+
     @Override
     public String toString() {
         if (isNull) {
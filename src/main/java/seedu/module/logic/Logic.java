@@ -3,6 +3,7 @@ package seedu.module.logic;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
+import javafx.scene.chart.PieChart;
 import seedu.module.commons.core.GuiSettings;
 import seedu.module.logic.commands.CommandResult;
 import seedu.module.logic.commands.exceptions.CommandException;
@@ -37,6 +38,16 @@ public interface Logic {
     /** Returns an unmodifiable view of the list of modules */
     ObservableList<Module> getModuleList();
 
+    /** Returns an unmodifiable view of the workload of each module, as shown in the pie chart */
+    ObservableList<PieChart.Data> getModulePieChartData();
+
+    /**
+     * Returns the number of tasks of {@code module} at each workload level.
+     *
+     * @see seedu.module.model.Model#getModuleWorkloadInformation(Module)
+     */
+    String getModuleWorkloadInformation(Module module);
+
     /**
      * Returns the user prefs' module book file path.
      */
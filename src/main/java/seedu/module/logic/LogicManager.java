@@ -2,17 +2,21 @@ package seedu.module.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.scene.chart.PieChart;
 import seedu.module.commons.core.GuiSettings;
 import seedu.module.commons.core.LogsCenter;
+import seedu.module.commons.exceptions.DataConversionException;
 import seedu.module.logic.commands.Command;
 import seedu.module.logic.commands.CommandResult;
 import seedu.module.logic.commands.exceptions.CommandException;
 import seedu.module.logic.parser.ModuleBookParser;
 import seedu.module.logic.parser.exceptions.ParseException;
 import seedu.module.model.Model;
+import seedu.module.model.ModuleBook;
 import seedu.module.model.ReadOnlyModuleBook;
 import seedu.module.model.task.Module;
 import seedu.module.model.task.Task;
@@ -23,11 +27,17 @@ import seedu.module.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String FILE_READ_ERROR_MESSAGE = "Could not read module book from file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final ModuleBookParser moduleBookParser;
+    // Module books other than the current one that were used recently, kept to switch back to them quickly
+    private final ModuleBookCache inactiveModuleBooks;
+    private Path moduleBookFilePath;
+    // Version of the model when it was last saved, or -1 if it has not been saved yet
+    private long savedVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,6 +46,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         moduleBookParser = new ModuleBookParser();
+        inactiveModuleBooks = new ModuleBookCache(model.getUserPrefs().getMaxOpenModuleBooks() - 1);
+        moduleBookFilePath = storage.getModuleBookFilePath();
     }
 
     @Override
@@ -44,15 +56,74 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = moduleBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            if (command.isMutating()) {
+                model.commitModuleBook();
+            }
+        }
+
+        if (command.isMutating()) {
+            saveModuleBook();
+        }
+
+        Optional<Path> moduleBookToOpen = commandResult.getModuleBookToOpen();
+        if (moduleBookToOpen.isPresent()) {
+            switchModuleBook(moduleBookToOpen.get());
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the current module book to its file, unless it has not changed since it was last saved.
+     */
+    private void saveModuleBook() throws CommandException {
+        if (model.getVersion() == savedVersion) {
+            logger.fine("Module book unchanged, skipping save");
+            return;
+        }
 
+        long version = model.getVersion();
         try {
-            storage.saveModuleBook(model.getModuleBook());
+            storage.saveModuleBook(model.getModuleBookSnapshot(), moduleBookFilePath);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
+    }
 
-        return commandResult;
+    /**
+     * Switches the model to the module book stored in {@code filePath}.
+     * The current module book is saved and kept in {@code inactiveModuleBooks}, and the module book to switch to is
+     * taken from there if possible, or read from its file otherwise.
+     */
+    private void switchModuleBook(Path filePath) throws CommandException {
+        if (ModuleBookCache.toKey(filePath).equals(ModuleBookCache.toKey(moduleBookFilePath))) {
+            return;
+        }
+
+        saveModuleBook();
+        ReadOnlyModuleBook nextModuleBook = inactiveModuleBooks.take(filePath).orElse(null);
+        if (nextModuleBook == null) {
+            nextModuleBook = readModuleBook(filePath);
+        }
+
+        inactiveModuleBooks.setCapacity(model.getUserPrefs().getMaxOpenModuleBooks() - 1);
+        inactiveModuleBooks.put(moduleBookFilePath, model.getModuleBookSnapshot());
+        model.switchModuleBook(filePath, nextModuleBook);
+        moduleBookFilePath = filePath;
+        savedVersion = -1;
+        logger.info("Switched to module book at " + filePath);
+    }
+
+    private ReadOnlyModuleBook readModuleBook(Path filePath) throws CommandException {
+        try {
+            return storage.readModuleBook(filePath).orElseGet(ModuleBook::new);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(FILE_READ_ERROR_MESSAGE + filePath, e);
+        }
     }
 
     @Override
@@ -70,6 +141,16 @@ public class LogicManager implements Logic {
         return model.getModuleList();
     }
 
+    @Override
+    public ObservableList<PieChart.Data> getModulePieChartData() {
+        return model.getModulePieChartData();
+    }
+
+    @Override
+    public String getModuleWorkloadInformation(Module module) {
+        return model.getModuleWorkloadInformation(module);
+    }
+
     @Override
     public Path getModuleBookFilePath() {
         return model.getModuleBookFilePath();
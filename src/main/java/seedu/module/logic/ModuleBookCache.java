@@ -0,0 +1,78 @@
+package seedu.module.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+import seedu.module.model.ReadOnlyModuleBook;
+
+/**
+ * Keeps the most recently used module books that are not currently open, so that switching back to one of them
+ * does not have to read it from its file again.
+ * Only the tasks are kept. Switching to a kept module book still takes time linear in its number of tasks, as the
+ * model rebuilds the task list shown and its modules, workload and next tasks from them.
+ * Once more than {@code capacity} module books are kept, the least recently used ones are evicted. Module books
+ * are saved before they are kept here, so an evicted module book is simply read from its file when needed again.
+ */
+class ModuleBookCache {
+
+    // Iterates from the least to the most recently used module book
+    private final LinkedHashMap<Path, ReadOnlyModuleBook> moduleBooks = new LinkedHashMap<>(16, 0.75f, true);
+    private int capacity;
+
+    /**
+     * Creates an empty cache that keeps at most {@code capacity} module books.
+     */
+    ModuleBookCache(int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Keeps {@code moduleBook}, read from or saved to {@code filePath}, as the most recently used module book.
+     */
+    void put(Path filePath, ReadOnlyModuleBook moduleBook) {
+        requireAllNonNull(filePath, moduleBook);
+        moduleBooks.put(toKey(filePath), moduleBook);
+        evictExcess();
+    }
+
+    /**
+     * Removes and returns the module book kept for {@code filePath}, if any.
+     */
+    Optional<ReadOnlyModuleBook> take(Path filePath) {
+        requireNonNull(filePath);
+        return Optional.ofNullable(moduleBooks.remove(toKey(filePath)));
+    }
+
+    /**
+     * Sets the maximum number of module books kept, evicting the least recently used ones if there are too many.
+     */
+    void setCapacity(int capacity) {
+        assert capacity >= 0 : "Capacity should not be negative";
+        this.capacity = capacity;
+        evictExcess();
+    }
+
+    int size() {
+        return moduleBooks.size();
+    }
+
+    private void evictExcess() {
+        Iterator<Path> leastRecentlyUsed = moduleBooks.keySet().iterator();
+        while (moduleBooks.size() > capacity) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Returns the key for {@code filePath}, so that different paths to the same file share a key.
+     */
+    static Path toKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+}
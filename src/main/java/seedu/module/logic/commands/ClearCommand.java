@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.module.model.Model;
 import seedu.module.model.ModuleBook;
-import seedu.module.model.ModuleManager;
 
 /**
  * Clears the module book.
@@ -19,7 +18,6 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.setModuleBook(new ModuleBook());
-        ModuleManager.rebuildMapping();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
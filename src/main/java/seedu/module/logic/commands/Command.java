@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the module book, in which case it has to be saved afterwards.
+     * Commands that only change what is displayed should override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +19,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The module book file that should be switched to, or null if the module book should not be switched. */
+    private final Path moduleBookToOpen;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +29,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.moduleBookToOpen = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that switches to the module book in {@code moduleBookToOpen},
+     * with other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Path moduleBookToOpen) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.moduleBookToOpen = requireNonNull(moduleBookToOpen);
     }
 
     /**
@@ -46,6 +63,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Path> getModuleBookToOpen() {
+        return Optional.ofNullable(moduleBookToOpen);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +81,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(moduleBookToOpen, otherCommandResult.moduleBookToOpen);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, moduleBookToOpen);
     }
 
     @Override
@@ -2,7 +2,6 @@ package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.HashSet;
 import java.util.Iterator;
@@ -71,7 +70,6 @@ public class DeleteTagCommand extends Command {
         Tag deletedTag = retrieveActualDeletedTag(oldTags, newTags);
 
         model.setTask(taskToTag, editedTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format("%s %s\n%s %s", MESSAGE_SHOW_DELETED_TAG, deletedTag.toString(),
                 MESSAGE_DELETE_TAG_TASK_SUCCESS, editedTask));
     }
@@ -1,7 +1,6 @@
 package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 
@@ -46,14 +45,13 @@ public class DoneCommand extends Command {
         }
 
         model.setTask(taskToMarkDone, doneTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format(MESSAGE_DONE_TASK_SUCCESS, doneTask));
     }
 
     private static Task createDoneTask(Task taskToMarkDone) {
         assert taskToMarkDone != null;
 
-        DoneStatus newDoneStatus = new DoneStatus(true);
+        DoneStatus newDoneStatus = DoneStatus.DONE;
 
         return Task.setDoneStatus(taskToMarkDone, newDoneStatus);
 
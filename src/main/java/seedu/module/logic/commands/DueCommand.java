@@ -0,0 +1,60 @@
+package seedu.module.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.module.commons.core.Messages;
+import seedu.module.model.Model;
+import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
+
+/**
+ * Lists all tasks in the module book with deadlines within a range of time.
+ */
+public class DueCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all tasks with deadlines from START "
+            + "to END, both inclusive.\n"
+            + "START and END are formatted as yyyy-MM-dd or yyyy-MM-dd HH:mm. "
+            + "An END without a time covers the whole day.\n"
+            + "Parameters: START END\n"
+            + "Example: " + COMMAND_WORD + " 2021-04-01 2021-04-07";
+
+    private final Time from;
+    private final Time to;
+
+    /**
+     * Creates a DueCommand to list the tasks with deadlines from {@code from} to {@code to}.
+     */
+    public DueCommand(Time from, Time to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the due tasks come from the deadline index, so tasks due outside the range are not checked
+        List<Task> dueTasks = model.getTasksDueBetween(from, to);
+        model.showTasks(dueTasks);
+        return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, dueTasks.size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DueCommand // instanceof handles nulls
+                && from.equals(((DueCommand) other).from)
+                && to.equals(((DueCommand) other).to)); // state check
+    }
+}
@@ -9,7 +9,6 @@ import static seedu.module.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_TASK_NAME;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_WORKLOAD;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -96,7 +95,6 @@ public class EditCommand extends Command {
         }
 
         model.setTask(taskToEdit, editedTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, editedTask));
     }
 
@@ -119,8 +117,8 @@ public class EditCommand extends Command {
         OptionalField<Recurrence> updatedRecurrence = editTaskDescriptor.getRecurrence()
                 .orElse(taskToEdit.getRecurrenceWrapper());
 
-        return new Task(updatedName, updatedStartTime, updatedDeadline, updatedModule, updatedDescription,
-                updatedWorkload, originalDoneStatus, updatedRecurrence, updatedTags);
+        return new Task(taskToEdit.getId(), updatedName, updatedStartTime, updatedDeadline, updatedModule,
+                updatedDescription, updatedWorkload, originalDoneStatus, updatedRecurrence, updatedTags);
 
     }
 
@@ -48,6 +48,11 @@ public class FindModuleCommand extends Command {
         return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW,
                 model.getFilteredTaskList().size()));
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
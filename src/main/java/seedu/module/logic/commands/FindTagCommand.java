@@ -2,9 +2,7 @@ package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.module.commons.core.Messages;
@@ -43,7 +41,7 @@ public class FindTagCommand extends Command {
     public FindTagCommand(Tag tag) {
         requireNonNull(tag);
         this.tag = tag;
-        this.predicate = (Task x) -> x.getTags().contains(tag);
+        this.predicate = (Task x) -> x.hasTag(tag);
     }
 
     public Predicate<Task> getPredicate() {
@@ -53,42 +51,15 @@ public class FindTagCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Task> lastShownList = model.getFilteredTaskList();
-        List<Task> listWithTag = new ArrayList<>();
-
-        for (Task t : lastShownList) {
-            if (t.getTags().contains(tag)) {
-                listWithTag.add(t);
-            }
-        }
-
-        Predicate<Task> newPred = (Task x) -> containsIgnoreCase(x, tag); //predicate for one task
-
-        model.updateFilteredTaskList(newPred);
-        return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW,
-                model.getFilteredTaskList().size()));
+        // the tagged tasks come from the tag index, so tasks without the tag are not checked
+        List<Task> taggedTasks = model.getTasksWithTag(tag);
+        model.showTasks(taggedTasks);
+        return new CommandResult(String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, taggedTasks.size()));
     }
 
-    /**
-     * Returns true if tag exists in the task's tags, ignoring case (ie. case-insensitive).
-     *
-     * @param task
-     * @param tag
-     * @return boolean
-     */
-    public boolean containsIgnoreCase(Task task, Tag tag) {
-        List<String> strTagsInLower = new ArrayList<String>();
-        Set<Tag> tags = task.getTags();
-        //convert tags of Task into strings
-        for (Tag t : tags) {
-            strTagsInLower.add(t.tagName.toLowerCase());
-        }
-        String target = tag.tagName.toLowerCase();
-        if (strTagsInLower.contains(target)) {
-            return true;
-        } else {
-            return false;
-        }
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 
     @Override
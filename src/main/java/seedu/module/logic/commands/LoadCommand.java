@@ -0,0 +1,66 @@
+package seedu.module.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.module.model.Model;
+
+/**
+ * Shows the total workload due within a range of dates, and the week with the most workload due in it.
+ */
+public class LoadCommand extends Command {
+
+    public static final String COMMAND_WORD = "load";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the total workload of the tasks not done "
+            + "yet that are due from START to END, both inclusive, and the busiest week in that period.\n"
+            + "START and END are formatted as yyyy-MM-dd.\n"
+            + "Parameters: START END\n"
+            + "Example: " + COMMAND_WORD + " 2021-04-01 2021-04-30";
+
+    public static final String MESSAGE_NO_WORKLOAD = "No workload due from %1$s to %2$s.";
+    public static final String MESSAGE_WORKLOAD = "Total workload due from %1$s to %2$s: %3$d\n"
+            + "Busiest week: %4$s to %5$s, with workload %6$d";
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a LoadCommand to show the workload due from {@code from} to {@code to}.
+     */
+    public LoadCommand(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Optional<LocalDate> busiestWeek = model.getBusiestWeekBetween(from, to);
+        if (busiestWeek.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_WORKLOAD, from, to));
+        }
+
+        LocalDate weekStart = busiestWeek.get().isBefore(from) ? from : busiestWeek.get();
+        LocalDate weekEnd = busiestWeek.get().plusDays(6).isAfter(to) ? to : busiestWeek.get().plusDays(6);
+        return new CommandResult(String.format(MESSAGE_WORKLOAD, from, to, model.getWorkloadDueBetween(from, to),
+                weekStart, weekEnd, model.getWorkloadDueBetween(weekStart, weekEnd)));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoadCommand // instanceof handles nulls
+                && from.equals(((LoadCommand) other).from)
+                && to.equals(((LoadCommand) other).to)); // state check
+    }
+}
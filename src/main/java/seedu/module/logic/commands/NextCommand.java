@@ -0,0 +1,68 @@
+package seedu.module.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.module.model.Model;
+import seedu.module.model.task.Task;
+
+/**
+ * Lists the tasks that are not done yet that should be done next, ranked by how close their deadlines are and by
+ * their workload.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the N tasks not done yet that should be "
+            + "done next, ranked by how close their deadlines are and by their workload.\n"
+            + "Parameters: N (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_NO_TASKS = "No tasks left to do!";
+    public static final String MESSAGE_NEXT_TASKS = "Next %1$d tasks to do:";
+    public static final String MESSAGE_NEXT_TASK = "\n%1$d. %2$s (%3$s), due %4$s";
+
+    private final int limit;
+
+    /**
+     * Creates a NextCommand to list at most {@code limit} tasks that should be done next.
+     */
+    public NextCommand(int limit) {
+        checkArgument(limit > 0);
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Task> nextTasks = model.getNextTasks(limit);
+        // Shown in the same order as in the message, so that the numbers in both match
+        model.showTasksInOrder(nextTasks);
+        if (nextTasks.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TASKS);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_NEXT_TASKS, nextTasks.size()));
+        for (int i = 0; i < nextTasks.size(); i++) {
+            Task task = nextTasks.get(i);
+            message.append(String.format(MESSAGE_NEXT_TASK, i + 1, task.getName(), task.getModule(),
+                    task.getDeadline()));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NextCommand // instanceof handles nulls
+                && limit == ((NextCommand) other).limit); // state check
+    }
+}
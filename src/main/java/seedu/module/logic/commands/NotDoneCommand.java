@@ -1,7 +1,6 @@
 package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 
@@ -46,14 +45,13 @@ public class NotDoneCommand extends Command {
         }
 
         model.setTask(taskToMarkNotDone, doneTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format(MESSAGE_NOT_DONE_TASK_SUCCESS, doneTask));
     }
 
     private static Task createNotDoneTask(Task taskToMarkNotDone) {
         assert taskToMarkNotDone != null;
 
-        DoneStatus newDoneStatus = new DoneStatus(false);
+        DoneStatus newDoneStatus = DoneStatus.NOT_DONE;
 
         return Task.setDoneStatus(taskToMarkNotDone, newDoneStatus);
     }
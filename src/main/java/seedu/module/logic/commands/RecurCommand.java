@@ -1,7 +1,6 @@
 package seedu.module.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.List;
 
@@ -74,7 +73,6 @@ public class RecurCommand extends Command {
         }
 
         model.setTask(taskToRecur, nextRecurringTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
 
         String returnMessage;
         if (recurrence.isNull()) {
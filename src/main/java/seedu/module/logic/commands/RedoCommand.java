@@ -0,0 +1,34 @@
+package seedu.module.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
+
+import seedu.module.logic.commands.exceptions.CommandException;
+import seedu.module.model.Model;
+
+/**
+ * Reverts the module book to its state before the last undo command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last command that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoModuleBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoModuleBook();
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.module.logic.parser.CliSyntax.PREFIX_TASK_NAME;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_WORKLOAD;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.module.model.Model;
 import seedu.module.model.task.Task;
@@ -17,36 +18,55 @@ public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts task by one factor. \n"
-        + "Parameters: "
-        + PREFIX_TASK_NAME + " or "
-        + PREFIX_DESCRIPTION + " or "
-        + PREFIX_DEADLINE + " or "
-        + PREFIX_WORKLOAD + " or "
-        + PREFIX_TAG + " or "
-        + PREFIX_MODULE + "\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts tasks by one or more factors. "
+        + "Ties left by a factor are broken by the factors after it.\n"
+        + "Parameters: any of "
+        + PREFIX_TASK_NAME + " "
+        + PREFIX_DESCRIPTION + " "
+        + PREFIX_DEADLINE + " "
+        + PREFIX_WORKLOAD + " "
+        + PREFIX_TAG + " "
+        + PREFIX_MODULE + ", in order of priority\n"
         + "Example: " + COMMAND_WORD + " "
-        + PREFIX_WORKLOAD + " ";
+        + PREFIX_DEADLINE + " "
+        + PREFIX_WORKLOAD + " "
+        + PREFIX_TASK_NAME;
 
     private final String messageSuccessByFactor;
-    private final Comparator<Task> factor;
+    private final List<Comparator<Task>> factors;
+    private final Comparator<Task> order;
 
     /**
      * Creates a SortCommand to sort the tasks by {@code Comparator<Task>}
      * @param factor the factor used to sort the tasks.
      */
     public SortCommand(Comparator<Task> factor) {
-        this.factor = factor;
-        this.messageSuccessByFactor = "Sorted all tasks by " + factor.toString() + ".";
+        this(List.of(factor));
+    }
+
+    /**
+     * Creates a SortCommand to sort the tasks by {@code factors}, each breaking the ties left by the ones before it.
+     * @param factors the factors used to sort the tasks, in order of priority. Must not be empty.
+     */
+    public SortCommand(List<Comparator<Task>> factors) {
+        requireNonNull(factors);
+        this.factors = List.copyOf(factors);
+        this.order = factors.size() == 1 ? factors.get(0) : new Task.MultiFactorComparator(factors);
+        this.messageSuccessByFactor = "Sorted all tasks by " + order.toString() + ".";
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortTasks(factor);
+        model.sortTasks(order);
         return new CommandResult(messageSuccessByFactor);
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -57,21 +77,18 @@ public class SortCommand extends Command {
         // instanceof handles nulls
         if (!(other instanceof SortCommand)) {
             return false;
-        } else {
-            boolean isSortedByWorkload = this.factor instanceof Task.WorkloadComparator
-                && ((SortCommand) other).factor instanceof Task.WorkloadComparator;
-            boolean isSortedByDeadline = this.factor instanceof Task.DeadlineComparator
-                && ((SortCommand) other).factor instanceof Task.DeadlineComparator;
-            boolean isSortedByTaskName = this.factor instanceof Task.NameComparator
-                && ((SortCommand) other).factor instanceof Task.NameComparator;
-            boolean isSortedByModule = this.factor instanceof Task.ModuleComparator
-                && ((SortCommand) other).factor instanceof Task.ModuleComparator;
-            boolean isSortedByDescription = this.factor instanceof Task.DescriptionComparator
-                && ((SortCommand) other).factor instanceof Task.DescriptionComparator;
-            boolean isSortedByNumberOfTag = this.factor instanceof Task.TagComparator
-                && ((SortCommand) other).factor instanceof Task.TagComparator;
-            return isSortedByDeadline || isSortedByDescription || isSortedByModule || isSortedByNumberOfTag
-                || isSortedByTaskName || isSortedByWorkload;
         }
+
+        // the factors have no state, so factors of the same class sort the same way
+        List<Comparator<Task>> otherFactors = ((SortCommand) other).factors;
+        if (factors.size() != otherFactors.size()) {
+            return false;
+        }
+        for (int i = 0; i < factors.size(); i++) {
+            if (factors.get(i).getClass() != otherFactors.get(i).getClass()) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,51 @@
+package seedu.module.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.module.model.Model;
+
+/**
+ * Switches to the module book stored in a given file.
+ * The switch itself is done by {@code LogicManager}, which has access to the files of the module books.
+ */
+public class SwitchCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to the module book stored in the "
+            + "given file. If the file does not exist yet, an empty module book is saved there once you make changes.\n"
+            + "Parameters: FILE_PATH (must end with .json)\n"
+            + "Example: " + COMMAND_WORD + " data/semester2.json";
+
+    public static final String MESSAGE_SUCCESS = "Switched to module book: %1$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a SwitchCommand to switch to the module book stored in {@code filePath}.
+     */
+    public SwitchCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath), filePath);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SwitchCommand // instanceof handles nulls
+                && filePath.equals(((SwitchCommand) other).filePath)); // state check
+    }
+}
@@ -3,7 +3,6 @@ package seedu.module.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.HashSet;
 import java.util.List;
@@ -69,7 +68,6 @@ public class TagCommand extends Command {
         Task editedTask = Task.setTags(taskToTag, newTags);
 
         model.setTask(taskToTag, editedTask);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         return new CommandResult(String.format(MESSAGE_TAG_TASK_SUCCESS, editedTask));
     }
 
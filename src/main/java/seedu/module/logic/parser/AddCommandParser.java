@@ -52,7 +52,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Description description = ParserUtil.parseDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get());
         Time deadline = ParserUtil.parseTime(argMultimap.getValue(PREFIX_DEADLINE).get());
         Workload workload = ParserUtil.parseWorkload(argMultimap.getValue(PREFIX_WORKLOAD).get());
-        DoneStatus newTaskDoneStatus = new DoneStatus(false);
+        DoneStatus newTaskDoneStatus = DoneStatus.NOT_DONE;
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         // Null check for optional field startTime.
@@ -1,7 +1,7 @@
 package seedu.module.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,11 +15,12 @@ import seedu.module.commons.core.optionalfield.OptionalField;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Keys are kept in the order they were first inserted.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<String>> argMultimap = new LinkedHashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -34,10 +35,6 @@ public class ArgumentMultimap {
         argMultimap.put(prefix, argValues);
     }
 
-    public int getPrefixesSize() {
-        return argMultimap.keySet().size();
-    }
-
     public Set<Prefix> getPrefixes() {
         return argMultimap.keySet();
     }
@@ -96,14 +93,4 @@ public class ArgumentMultimap {
         }
         return isPrefixNotWithParameter;
     }
-
-    /**
-     * Because of the implementation inheriting from AB3, the prefixes will contain "", so here 2 means "" and the only
-     * existing prefix.
-     *
-     * @return true if the command only has one prefix.
-     */
-    public boolean areLessThanTwoPrefixes() {
-        return this.getPrefixesSize() <= 2;
-    }
 }
@@ -44,7 +44,7 @@ public class DeleteTagCommandParser implements Parser {
 
         Tag tag;
         try {
-            tag = new Tag(tagName);
+            tag = Tag.of(tagName);
         } catch (IllegalArgumentException e) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
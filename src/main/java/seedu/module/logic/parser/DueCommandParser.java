@@ -0,0 +1,64 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.module.logic.commands.DueCommand;
+import seedu.module.logic.parser.exceptions.ParseException;
+import seedu.module.model.task.Time;
+
+/**
+ * Parses input arguments and creates a new DueCommand object
+ */
+public class DueCommandParser implements Parser<DueCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range cannot be after its end.";
+
+    private static final String END_OF_DAY = " 23:59";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueCommand
+     * and returns a DueCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        }
+
+        List<String> timeStrings = splitTimes(trimmedArgs.split("\\s+"));
+        if (timeStrings.size() != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        }
+
+        Time from = ParserUtil.parseTime(timeStrings.get(0));
+        Time to = ParserUtil.parseTime(timeStrings.get(1));
+        if (!to.hasHoursMinutes()) {
+            to = ParserUtil.parseTime(to + END_OF_DAY);
+        }
+        if (from.compareTo(to) > 0) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new DueCommand(from, to);
+    }
+
+    /**
+     * Groups {@code tokens} into time strings, joining each date with the HH:mm token following it, if any.
+     */
+    private static List<String> splitTimes(String[] tokens) {
+        List<String> timeStrings = new ArrayList<>();
+        for (int i = 0; i < tokens.length; i++) {
+            if (i + 1 < tokens.length && tokens[i + 1].contains(":")) {
+                timeStrings.add(tokens[i] + " " + tokens[i + 1]);
+                i++;
+            } else {
+                timeStrings.add(tokens[i]);
+            }
+        }
+        return timeStrings;
+    }
+}
@@ -5,7 +5,7 @@ import static seedu.module.commons.core.Messages.MESSAGE_NO_SUCH_MODULE;
 
 import seedu.module.logic.commands.FindModuleCommand;
 import seedu.module.logic.parser.exceptions.ParseException;
-import seedu.module.model.ModuleManager;
+import seedu.module.model.task.Module;
 
 /**
  * Parses input arguments and creates a new FindModuleCommand object
@@ -23,7 +23,7 @@ public class FindModuleCommandParser implements Parser<FindModuleCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindModuleCommand.MESSAGE_USAGE));
         }
-        if (!ModuleManager.moduleIsValid(trimmedArgs)) {
+        if (!Module.isSupportedModuleCode(trimmedArgs)) {
             throw new ParseException(
                     String.format(MESSAGE_NO_SUCH_MODULE, FindModuleCommand.MESSAGE_USAGE));
         }
@@ -30,7 +30,7 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTagCommand.MESSAGE_USAGE));
         }
 
-        return new FindTagCommand(new Tag(nameKeywords[0]));
+        return new FindTagCommand(Tag.of(nameKeywords[0]));
     }
 
 }
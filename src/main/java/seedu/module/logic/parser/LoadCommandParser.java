@@ -0,0 +1,42 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.module.logic.commands.LoadCommand;
+import seedu.module.logic.parser.exceptions.ParseException;
+import seedu.module.model.task.Time;
+
+/**
+ * Parses input arguments and creates a new LoadCommand object
+ */
+public class LoadCommandParser implements Parser<LoadCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range cannot be after its end.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LoadCommand
+     * and returns a LoadCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LoadCommand parse(String args) throws ParseException {
+        String[] dateStrings = args.trim().split("\\s+");
+        if (dateStrings.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = parseDate(dateStrings[0]);
+        LocalDate to = parseDate(dateStrings[1]);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new LoadCommand(from, to);
+    }
+
+    private static LocalDate parseDate(String dateString) throws ParseException {
+        Time time = ParserUtil.parseTime(dateString);
+        return time.getDate();
+    }
+}
@@ -12,6 +12,7 @@ import seedu.module.logic.commands.Command;
 import seedu.module.logic.commands.DeleteCommand;
 import seedu.module.logic.commands.DeleteTagCommand;
 import seedu.module.logic.commands.DoneCommand;
+import seedu.module.logic.commands.DueCommand;
 import seedu.module.logic.commands.EditCommand;
 import seedu.module.logic.commands.ExitCommand;
 import seedu.module.logic.commands.FindCommand;
@@ -19,11 +20,16 @@ import seedu.module.logic.commands.FindModuleCommand;
 import seedu.module.logic.commands.FindTagCommand;
 import seedu.module.logic.commands.HelpCommand;
 import seedu.module.logic.commands.ListCommand;
+import seedu.module.logic.commands.LoadCommand;
+import seedu.module.logic.commands.NextCommand;
 import seedu.module.logic.commands.NotDoneCommand;
 import seedu.module.logic.commands.RecurCommand;
+import seedu.module.logic.commands.RedoCommand;
 import seedu.module.logic.commands.RefreshCommand;
 import seedu.module.logic.commands.SortCommand;
+import seedu.module.logic.commands.SwitchCommand;
 import seedu.module.logic.commands.TagCommand;
+import seedu.module.logic.commands.UndoCommand;
 import seedu.module.logic.parser.exceptions.ParseException;
 
 /**
@@ -104,6 +110,24 @@ public class ModuleBookParser {
         case RefreshCommand.COMMAND_WORD:
             return new RefreshCommand();
 
+        case DueCommand.COMMAND_WORD:
+            return new DueCommandParser().parse(arguments);
+
+        case LoadCommand.COMMAND_WORD:
+            return new LoadCommandParser().parse(arguments);
+
+        case NextCommand.COMMAND_WORD:
+            return new NextCommandParser().parse(arguments);
+
+        case SwitchCommand.COMMAND_WORD:
+            return new SwitchCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,27 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.module.commons.util.StringUtil;
+import seedu.module.logic.commands.NextCommand;
+import seedu.module.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextCommand object
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand
+     * and returns a NextCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NextCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (!StringUtil.isInteger(trimmedArgs) || !StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+        }
+        return new NextCommand(Integer.parseInt(trimmedArgs));
+    }
+}
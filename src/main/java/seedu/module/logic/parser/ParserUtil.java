@@ -10,7 +10,6 @@ import seedu.module.commons.core.index.Index;
 import seedu.module.commons.exceptions.IllegalIntegerException;
 import seedu.module.commons.util.StringUtil;
 import seedu.module.logic.parser.exceptions.ParseException;
-import seedu.module.model.ModuleManager;
 import seedu.module.model.tag.Tag;
 import seedu.module.model.task.Description;
 import seedu.module.model.task.Module;
@@ -69,10 +68,7 @@ public class ParserUtil {
     public static Time parseTime(String deadline) throws ParseException {
         requireNonNull(deadline);
         String trimmedTime = deadline.trim();
-        if (!Time.isValidTime(trimmedTime)) {
-            throw new ParseException(Time.MESSAGE_CONSTRAINTS);
-        }
-        return new Time(trimmedTime);
+        return Time.parse(trimmedTime).orElseThrow(() -> new ParseException(Time.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -102,10 +98,10 @@ public class ParserUtil {
         if (!Module.isValidModuleFormat(trimmedModule)) {
             throw new ParseException(Module.MESSAGE_CONSTRAINTS);
         }
-        if (!ModuleManager.moduleIsValid(trimmedModule)) {
+        if (!Module.isSupportedModuleCode(trimmedModule)) {
             throw new ParseException(Module.MESSAGE_MODULE_NOT_SUPPORTED);
         }
-        return new Module(trimmedModule);
+        return Module.of(trimmedModule);
     }
 
     /**
@@ -120,7 +116,7 @@ public class ParserUtil {
         if (!Workload.isValidWorkload(trimmedWorkload)) {
             throw new ParseException(Workload.MESSAGE_CONSTRAINTS);
         }
-        return new Workload(trimmedWorkload);
+        return Workload.of(trimmedWorkload);
     }
 
     /**
@@ -135,7 +131,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -166,6 +162,6 @@ public class ParserUtil {
         if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
             throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
         }
-        return new Recurrence(recurrence);
+        return Recurrence.of(recurrence);
     }
 }
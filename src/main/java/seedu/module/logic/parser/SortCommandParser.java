@@ -8,7 +8,9 @@ import static seedu.module.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_TASK_NAME;
 import static seedu.module.logic.parser.CliSyntax.PREFIX_WORKLOAD;
 
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import seedu.module.logic.commands.SortCommand;
 import seedu.module.logic.parser.exceptions.ParseException;
@@ -34,40 +36,49 @@ public class SortCommandParser implements Parser<SortCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        if (arePrefixesPresent(argMultimap, PREFIX_DEADLINE)) {
-            return new SortCommand(new Task.DeadlineComparator());
-        } else if (arePrefixesPresent(argMultimap, PREFIX_WORKLOAD)) {
-            return new SortCommand(new Task.WorkloadComparator());
-        } else if (arePrefixesPresent(argMultimap, PREFIX_MODULE)) {
-            return new SortCommand(new Task.ModuleComparator());
-        } else if (arePrefixesPresent(argMultimap, PREFIX_TASK_NAME)) {
-            return new SortCommand(new Task.NameComparator());
-        } else if (arePrefixesPresent(argMultimap, PREFIX_DESCRIPTION)) {
-            return new SortCommand(new Task.DescriptionComparator());
-        } else if (arePrefixesPresent(argMultimap, PREFIX_TAG)) {
-            return new SortCommand(new Task.TagComparator());
+        // prefixes are in the order they first appear, after the preamble
+        List<Comparator<Task>> factors = new ArrayList<>();
+        for (Prefix prefix : argMultimap.getPrefixes()) {
+            if (!prefix.getPrefix().isEmpty()) {
+                factors.add(parseFactor(prefix));
+            }
         }
 
-        return new SortCommand(new Task.DeadlineComparator());
+        if (factors.isEmpty()) {
+            return new SortCommand(new Task.DeadlineComparator());
+        }
+        return new SortCommand(factors);
     }
 
-    /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
-     */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(argumentMultimap::contains);
+    private static Comparator<Task> parseFactor(Prefix prefix) {
+        if (prefix.equals(PREFIX_DEADLINE)) {
+            return new Task.DeadlineComparator();
+        } else if (prefix.equals(PREFIX_WORKLOAD)) {
+            return new Task.WorkloadComparator();
+        } else if (prefix.equals(PREFIX_MODULE)) {
+            return new Task.ModuleComparator();
+        } else if (prefix.equals(PREFIX_TASK_NAME)) {
+            return new Task.NameComparator();
+        } else if (prefix.equals(PREFIX_DESCRIPTION)) {
+            return new Task.DescriptionComparator();
+        } else {
+            assert prefix.equals(PREFIX_TAG) : "Only sort prefixes are tokenized";
+            return new Task.TagComparator();
+        }
     }
 
     /**
-     * Returns true if there exists only one prefix without extra parameters.*
+     * Returns true if every prefix appears once without extra parameters.
      * @param argumentMultimap the maps of the arguments.
      * @return true if the argument is valid for sort command.
      */
     private static boolean isValidArgument(ArgumentMultimap argumentMultimap) {
-        return argumentMultimap.areLessThanTwoPrefixes()
-                && argumentMultimap.arePrefixesNotWithParameter();
+        for (Prefix prefix : argumentMultimap.getPrefixes()) {
+            if (!prefix.getPrefix().isEmpty() && argumentMultimap.getAllValues(prefix).size() > 1) {
+                return false;
+            }
+        }
+        return argumentMultimap.arePrefixesNotWithParameter();
     }
 
 }
-
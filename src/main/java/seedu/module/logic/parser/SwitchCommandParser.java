@@ -0,0 +1,39 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.module.logic.commands.SwitchCommand;
+import seedu.module.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchCommand object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    public static final String MODULE_BOOK_FILE_EXTENSION = ".json";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchCommand
+     * and returns a SwitchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !trimmedArgs.endsWith(MODULE_BOOK_FILE_EXTENSION)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            return new SwitchCommand(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE), ipe);
+        }
+    }
+
+}
@@ -1,13 +1,19 @@
 package seedu.module.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.scene.chart.PieChart;
 import seedu.module.commons.core.GuiSettings;
+import seedu.module.model.tag.Tag;
 import seedu.module.model.task.Module;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 
 /**
  * The API of the Model component.
@@ -51,9 +57,21 @@ public interface Model {
      */
     void setModuleBook(ReadOnlyModuleBook moduleBook);
 
+    /**
+     * Switches to {@code moduleBook}, which is stored in {@code filePath}, and makes {@code filePath} the user prefs'
+     * module book file path. Tasks are brought up to date, the undo history is cleared and all tasks are shown.
+     * Takes time linear in the number of tasks in {@code moduleBook}, which are all indexed again.
+     */
+    void switchModuleBook(Path filePath, ReadOnlyModuleBook moduleBook);
+
     /** Returns the ModuleBook */
     ReadOnlyModuleBook getModuleBook();
 
+    /**
+     * Returns an immutable view of the ModuleBook as it is now, which later changes to the model do not affect.
+     */
+    ReadOnlyModuleBook getModuleBookSnapshot();
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the module book.
      */
@@ -64,6 +82,35 @@ public interface Model {
      */
     boolean hasRecurringTask(Task task);
 
+    /**
+     * Returns the tasks in the module book that have {@code tag}, ignoring case, in no particular order.
+     */
+    List<Task> getTasksWithTag(Tag tag);
+
+    /**
+     * Returns the tasks in the module book with deadlines from {@code from} to {@code to}, both inclusive,
+     * ordered by deadline.
+     */
+    List<Task> getTasksDueBetween(Time from, Time to);
+
+    /**
+     * Returns the total workload of the tasks that are not done with deadlines from {@code from} to {@code to},
+     * both inclusive.
+     */
+    long getWorkloadDueBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the Monday starting the week with the most workload due from {@code from} to {@code to}, or an empty
+     * Optional if no workload is due then.
+     */
+    Optional<LocalDate> getBusiestWeekBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns at most {@code limit} tasks that are not done that should be done next, highest ranked first.
+     * Tasks are ranked by how close their deadlines are and by their workload.
+     */
+    List<Task> getNextTasks(int limit);
+
     /**
      * Deletes the given task.
      * The task must exist in the module book.
@@ -89,16 +136,84 @@ public interface Model {
     void refreshTasks();
 
     /**
-     * Sorts the tasks by corresponding factor.
+     * Starts a batch of changes to the module book.
+     * Changes made before the matching {@code commitBatch()} are shown to observers and published to subscribers
+     * of the module book as a single change.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch of changes started by the last {@code beginBatch()}, showing its changes to observers.
+     */
+    void commitBatch();
+
+    /**
+     * Saves the changes made to the module book since the last commit as a step that can be undone.
+     */
+    void commitModuleBook();
+
+    /**
+     * Returns true if there is a change to the module book that can be undone.
+     */
+    boolean canUndoModuleBook();
+
+    /**
+     * Returns true if there is an undone change to the module book that can be redone.
+     */
+    boolean canRedoModuleBook();
+
+    /**
+     * Restores the module book to its state before the last committed step.
+     */
+    void undoModuleBook();
+
+    /**
+     * Restores the module book to its state after the last undone step.
+     */
+    void redoModuleBook();
+
+    /**
+     * Forgets all steps that could be undone or redone.
+     */
+    void clearModuleBookHistory();
+
+    /**
+     * Returns the number of changes made to the module book so far.
+     * The version never decreases, so comparing it with an earlier version tells whether the module book has changed.
+     */
+    long getVersion();
+
+    /**
+     * Sorts the displayed tasks by corresponding factor, leaving the order of the module book unchanged.
      */
     void sortTasks(Comparator<Task> factor);
 
-    /** Returns an unmodifiable view of the filtered task list */
+    /**
+     * Shows only {@code tasks}, in the current order of the displayed tasks, until the filter is next set.
+     * Tasks edited or added in the meantime stay shown.
+     */
+    void showTasks(List<Task> tasks);
+
+    /**
+     * Shows only {@code tasks}, in the given order, until the displayed tasks are next filtered or sorted.
+     * Tasks edited or added in the meantime stay shown, after {@code tasks}.
+     */
+    void showTasksInOrder(List<Task> tasks);
+
+    /** Returns an unmodifiable view of the filtered task list, in the order set by the last sort */
     ObservableList<Task> getFilteredTaskList();
 
     /** Returns an unmodifiable view of the module list */
     ObservableList<Module> getModuleList();
 
+    /** Returns an unmodifiable view of the workload of each module, as shown in the pie chart */
+    ObservableList<PieChart.Data> getModulePieChartData();
+
+    /**
+     * Returns the number of tasks of {@code module} at each workload level, in a form that can be shown to the user.
+     */
+    String getModuleWorkloadInformation(Module module);
+
     /**
      * Updates the filter of the filtered task list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,17 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.scene.chart.PieChart;
 import seedu.module.commons.core.GuiSettings;
 import seedu.module.commons.core.LogsCenter;
+import seedu.module.model.tag.Tag;
 import seedu.module.model.task.Module;
+import seedu.module.model.task.SortedTaskList;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 
 /**
  * Represents the in-memory model of the module book data.
@@ -25,23 +37,62 @@ public class ModelManager implements Model {
     private final ModuleBook moduleBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Task> filteredTasks;
+    private final SortedTaskList sortedTasks;
+    // Ids of tasks added or edited since the filter was last set, which stay shown even if they do not match it
+    private final Set<Long> pinnedTaskIds = new HashSet<>();
+    // Whether the tasks are shown in a given order, and the sort order to restore once they are filtered again
+    private boolean isShowingGivenOrder = false;
+    private Comparator<Task> orderBeforeGivenOrder;
+    private final ModuleBookHistory history = new ModuleBookHistory();
+    private final ModuleManager moduleManager = new ModuleManager();
+    private final WorkloadTimeline workloadTimeline = new WorkloadTimeline();
+    private final NextUpQueue nextUpQueue = new NextUpQueue();
+    private long version = 0;
 
     /**
      * Initializes a ModelManager with the given moduleBook and userPrefs.
      */
     public ModelManager(ReadOnlyModuleBook moduleBook, ReadOnlyUserPrefs userPrefs) {
+        this(new ModuleBook(requireNonNull(moduleBook)), new UserPrefs(requireNonNull(userPrefs)));
+    }
+
+    public ModelManager() {
+        this(new ModuleBook(), new UserPrefs());
+    }
+
+    /**
+     * Initializes a ModelManager that uses {@code moduleBook} and {@code userPrefs} as they are, without copying.
+     */
+    private ModelManager(ModuleBook moduleBook, UserPrefs userPrefs) {
         super();
         requireAllNonNull(moduleBook, userPrefs);
 
         logger.fine("Initializing with module book: " + moduleBook + " and user prefs " + userPrefs);
 
-        this.moduleBook = new ModuleBook(moduleBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        filteredTasks = new FilteredList<>(this.moduleBook.getTaskList());
+        this.moduleBook = moduleBook;
+        this.userPrefs = userPrefs;
+        filteredTasks = new FilteredList<>(this.moduleBook.getTaskList(), PREDICATE_SHOW_ALL_TASKS);
+        sortedTasks = new SortedTaskList(filteredTasks);
+        this.moduleBook.getTaskList().addListener((ListChangeListener<Task>) change -> {
+            version++;
+            history.record(change);
+        });
+        moduleManager.insertTasksToMapping(this.moduleBook.getTaskList());
+        this.moduleBook.subscribe(moduleManager.newMappingSubscriber(this.moduleBook));
+        workloadTimeline.rebuild(this.moduleBook.getTaskList());
+        this.moduleBook.subscribe(workloadTimeline.newTimelineSubscriber(this.moduleBook));
+        this.moduleBook.getTaskList().forEach(nextUpQueue::addTask);
+        this.moduleBook.subscribe(nextUpQueue.newQueueSubscriber(this.moduleBook));
     }
 
-    public ModelManager() {
-        this(new ModuleBook(), new UserPrefs());
+    /**
+     * Returns a ModelManager that takes over {@code moduleBook} instead of copying it, which avoids copying
+     * every task of a freshly loaded module book.
+     * {@code moduleBook} must not be modified other than through the returned ModelManager afterwards.
+     */
+    public static ModelManager ofModuleBook(ModuleBook moduleBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(moduleBook, userPrefs);
+        return new ModelManager(moduleBook, new UserPrefs(userPrefs));
     }
 
     //=========== UserPrefs ==================================================================================
@@ -86,11 +137,26 @@ public class ModelManager implements Model {
         this.moduleBook.resetData(moduleBook);
     }
 
+    @Override
+    public void switchModuleBook(Path filePath, ReadOnlyModuleBook moduleBook) {
+        requireAllNonNull(filePath, moduleBook);
+        this.moduleBook.resetData(moduleBook);
+        setModuleBookFilePath(filePath);
+        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        refreshTasks();
+        history.clear();
+    }
+
     @Override
     public ReadOnlyModuleBook getModuleBook() {
         return moduleBook;
     }
 
+    @Override
+    public ReadOnlyModuleBook getModuleBookSnapshot() {
+        return moduleBook.snapshot();
+    }
+
     @Override
     public boolean hasTask(Task task) {
         requireNonNull(task);
@@ -103,65 +169,234 @@ public class ModelManager implements Model {
         return moduleBook.hasRecurringTask(task);
     }
 
+    @Override
+    public List<Task> getTasksWithTag(Tag tag) {
+        return moduleBook.getTasksWithTag(tag);
+    }
+
+    @Override
+    public List<Task> getTasksDueBetween(Time from, Time to) {
+        requireAllNonNull(from, to);
+        return moduleBook.getTasksDueBetween(from, to);
+    }
+
+    @Override
+    public long getWorkloadDueBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return workloadTimeline.getWorkloadBetween(from, to);
+    }
+
+    @Override
+    public Optional<LocalDate> getBusiestWeekBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return workloadTimeline.getBusiestWeekBetween(from, to);
+    }
+
+    @Override
+    public List<Task> getNextTasks(int limit) {
+        return nextUpQueue.getNextTasks(limit);
+    }
+
     @Override
     public void deleteTask(Task target) {
         moduleBook.removeTask(target);
     }
 
+    /**
+     * Adds the given task, which is shown even if it does not match the current filter.
+     * The rest of the filtered list is left as it is.
+     */
     @Override
     public void addTask(Task task) {
+        requireNonNull(task);
+        pinTask(task);
         moduleBook.addTask(task);
-        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
     }
 
+    /**
+     * Replaces the given task {@code target} with {@code editedTask}.
+     * If {@code target} is currently shown, {@code editedTask} is shown in its place even if it does not match the
+     * current filter. The rest of the filtered list is left as it is.
+     */
     @Override
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
+        if (filteredTasks.getPredicate().test(target)) {
+            pinTask(editedTask);
+        }
         moduleBook.setTask(target, editedTask);
     }
 
+    /**
+     * Sorts the displayed tasks without reordering the module book itself.
+     * Tasks added or edited afterwards are placed according to {@code factor}.
+     */
     @Override
     public void sortTasks(Comparator<Task> factor) {
-        moduleBook.sortTasks(factor);
+        requireNonNull(factor);
+        isShowingGivenOrder = false;
+        sortedTasks.setComparator(factor);
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
     }
 
     @Override
     public void refreshTasks() {
-        for (Task taskToCheck : Collections.unmodifiableList(this.filteredTasks)) {
-            Task taskToBeReplaced = taskToCheck;
-            boolean isUpdated = false;
-            while (taskToCheck.isRecurring() && taskToCheck.isBehind()) {
-                taskToCheck = Task.updateRecurrenceTask(taskToCheck);
-                isUpdated = true;
-            }
-            if (isUpdated) {
-                this.setTask(taskToBeReplaced, taskToCheck);
+        beginBatch();
+        try {
+            for (Task taskToCheck : Collections.unmodifiableList(this.filteredTasks)) {
+                Task taskToBeReplaced = taskToCheck;
+                boolean isUpdated = false;
+                while (taskToCheck.isRecurring() && taskToCheck.isBehind()) {
+                    taskToCheck = Task.updateRecurrenceTask(taskToCheck);
+                    isUpdated = true;
+                }
+                if (isUpdated) {
+                    this.setTask(taskToBeReplaced, taskToCheck);
+                }
             }
+        } finally {
+            commitBatch();
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        moduleBook.beginBatch();
+        moduleManager.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        moduleManager.commitBatch();
+        moduleBook.commitBatch();
+    }
+
+    @Override
+    public void commitModuleBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoModuleBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoModuleBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoModuleBook() {
+        moduleManager.beginBatch();
+        try {
+            history.undo(moduleBook);
+        } finally {
+            moduleManager.commitBatch();
+        }
+    }
+
+    @Override
+    public void redoModuleBook() {
+        moduleManager.beginBatch();
+        try {
+            history.redo(moduleBook);
+        } finally {
+            moduleManager.commitBatch();
         }
     }
 
+    @Override
+    public void clearModuleBookHistory() {
+        history.clear();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     //=========== Filtered Task List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
-     * {@code versionedModuleBook}
+     * {@code versionedModuleBook}, filtered by the current predicate and sorted by the current sorting factor
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return sortedTasks;
     }
 
     @Override
     public ObservableList<Module> getModuleList() {
-        return ModuleManager.getExistingModuleList();
+        return moduleManager.getExistingModuleList();
+    }
+
+    @Override
+    public ObservableList<PieChart.Data> getModulePieChartData() {
+        return moduleManager.getModulePieChartData();
+    }
+
+    @Override
+    public String getModuleWorkloadInformation(Module module) {
+        requireNonNull(module);
+        return moduleManager.getModuleWorkloadInformation(module);
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        if (isShowingGivenOrder) {
+            isShowingGivenOrder = false;
+            sortedTasks.setComparator(orderBeforeGivenOrder);
+        }
+        pinnedTaskIds.clear();
+        if (predicate == PREDICATE_SHOW_ALL_TASKS) {
+            filteredTasks.setPredicate(predicate);
+        } else {
+            filteredTasks.setPredicate(task -> pinnedTaskIds.contains(task.getId()) || predicate.test(task));
+        }
+    }
+
+    /**
+     * Shows only {@code tasks}, in the current order of the displayed tasks, until the filter is next set.
+     * Tasks are matched by id, so tasks edited in the meantime stay shown.
+     */
+    @Override
+    public void showTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        Set<Long> taskIds = new HashSet<>();
+        for (Task task : tasks) {
+            taskIds.add(task.getId());
+        }
+        updateFilteredTaskList(task -> taskIds.contains(task.getId()));
+    }
+
+    /**
+     * Shows only {@code tasks}, in the given order, until the displayed tasks are next filtered or sorted.
+     * Tasks are matched by id, so tasks edited in the meantime keep their place.
+     */
+    @Override
+    public void showTasksInOrder(List<Task> tasks) {
+        requireNonNull(tasks);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            positions.putIfAbsent(tasks.get(i).getId(), i);
+        }
+        updateFilteredTaskList(task -> positions.containsKey(task.getId()));
+        isShowingGivenOrder = true;
+        orderBeforeGivenOrder = sortedTasks.getComparator();
+        sortedTasks.setComparator(Comparator.comparingInt(task -> positions.getOrDefault(task.getId(), tasks.size())));
+    }
+
+    /**
+     * Keeps {@code task} shown until the filter is next set, if the filter does not already show all tasks.
+     */
+    private void pinTask(Task task) {
+        if (filteredTasks.getPredicate() != PREDICATE_SHOW_ALL_TASKS) {
+            pinnedTaskIds.add(task.getId());
+        }
     }
 
     @Override
@@ -180,7 +415,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return moduleBook.equals(other.moduleBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTasks.equals(other.filteredTasks);
+                && sortedTasks.equals(other.sortedTasks);
     }
 
 }
@@ -2,20 +2,44 @@ package seedu.module.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
 
 import javafx.collections.ObservableList;
+import seedu.module.model.tag.Tag;
+import seedu.module.model.task.DeadlineIndex;
+import seedu.module.model.task.Module;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 import seedu.module.model.task.UniqueTaskList;
+import seedu.module.model.task.exceptions.DuplicateTaskException;
 
 /**
  * Wraps all data at the module-book level
  * Duplicates are not allowed (by .isSameTask comparison)
+ * An index from each tag to the tasks that have it, and an index of the tasks by deadline, are kept in sync
+ * with the task list. Changes to the tasks are published to subscribers, such as the {@code ModuleManager} of a model.
+ * The changes made during a batch are published together, as a single change, when the batch is committed.
  */
 public class ModuleBook implements ReadOnlyModuleBook {
 
     private final UniqueTaskList tasks;
+    private final Map<Tag, Set<Task>> tasksByTag = new HashMap<>();
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+    // Delivers changes on the thread that makes them, unless a subscriber hands them off to its own executor
+    private final SubmissionPublisher<ModuleBookChange> changePublisher =
+            new SubmissionPublisher<>(Runnable::run, Flow.defaultBufferSize());
+
+    private int batchDepth = 0;
+    // Changes made during the batch in progress, to be published when it is committed
+    private final List<ModuleBookChange> batchChanges = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,15 +71,8 @@ public class ModuleBook implements ReadOnlyModuleBook {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
-    }
-
-    /**
-     * Sorts the task list by deadline.
-     *
-     * @param factor the comparator
-     */
-    public void sortTasks(Comparator<Task> factor) {
-        this.tasks.sortTasks(factor);
+        rebuildIndexes();
+        publish(ModuleBookChange.reset(tasks));
     }
 
     /**
@@ -95,16 +112,107 @@ public class ModuleBook implements ReadOnlyModuleBook {
     public void addTask(Task p) {
         assert(p != null);
         if (checkForSupportedModuleCode(p)) {
-            assert(ModuleManager.moduleIsValid(p.getModule().toString()));
+            assert(Module.isSupportedModuleCode(p.getModule().toString()));
 
             Task taskToAdd = p;
 
             if (p.isRecurring()) {
                 taskToAdd = Task.updateRecurrenceTask(p);
             }
-            ModuleManager.insertTaskToMapping(taskToAdd.getModule(), taskToAdd);
             tasks.add(taskToAdd);
+            indexTask(taskToAdd);
+            publish(ModuleBookChange.added(List.of(taskToAdd)));
+        }
+    }
+
+    /**
+     * Adds all tasks in {@code toAdd} to the module book in one pass.
+     * The tasks must not already exist in the module book, and must not be duplicates of one another.
+     * Like {@link #addTask(Task)}, tasks with unsupported module codes are left out.
+     *
+     * @throws DuplicateTaskException if the tasks would not be unique, in which case the module book is unchanged.
+     */
+    public void addTasks(List<Task> toAdd) {
+        requireNonNull(toAdd);
+        List<Task> tasksToAdd = new ArrayList<>(toAdd.size());
+        for (Task p : toAdd) {
+            if (checkForSupportedModuleCode(p)) {
+                tasksToAdd.add(p.isRecurring() ? Task.updateRecurrenceTask(p) : p);
+            }
+        }
+
+        List<Task> combinedTasks = getCurrentTasks();
+        combinedTasks.addAll(tasksToAdd);
+        tasks.setTasks(combinedTasks);
+        tasksToAdd.forEach(this::indexTask);
+        publish(ModuleBookChange.added(tasksToAdd));
+    }
+
+    /**
+     * Starts a batch of changes to the module book. The task list and the subscribers only see the changes made
+     * during the batch when the matching {@link #commitBatch()} is called, as a single change.
+     * Batches may be nested, in which case the changes are only published when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        tasks.beginBatch();
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch of changes started by the last {@link #beginBatch()}, publishing the changes made during the
+     * outermost batch as a single change.
+     */
+    public void commitBatch() {
+        assert batchDepth > 0 : "No batch to commit";
+        tasks.commitBatch();
+        batchDepth--;
+        if (batchDepth == 0 && !batchChanges.isEmpty()) {
+            ModuleBookChange change = batchChanges.size() == 1 ? batchChanges.get(0) : consolidateBatchChanges();
+            batchChanges.clear();
+            changePublisher.submit(change);
+        }
+    }
+
+    /**
+     * Publishes {@code change} to the subscribers, or keeps it until the batch in progress is committed.
+     */
+    private void publish(ModuleBookChange change) {
+        if (batchDepth > 0) {
+            batchChanges.add(change);
+        } else {
+            changePublisher.submit(change);
+        }
+    }
+
+    /**
+     * Returns a single change with the same effect as all the changes made during the batch.
+     * Tasks that were added and then removed again during the batch are left out of it.
+     */
+    private ModuleBookChange consolidateBatchChanges() {
+        boolean isReset = batchChanges.stream().anyMatch(change -> change.getType() == ModuleBookChange.Type.RESET);
+        if (isReset) {
+            return ModuleBookChange.reset(getCurrentTasks());
+        }
+
+        List<Task> removedTasks = new ArrayList<>();
+        List<Task> addedTasks = new ArrayList<>();
+        Set<Task> tasksAddedInBatch = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ModuleBookChange change : batchChanges) {
+            for (Task task : change.getRemovedTasks()) {
+                if (!tasksAddedInBatch.remove(task)) {
+                    removedTasks.add(task);
+                }
+            }
+            for (Task task : change.getAddedTasks()) {
+                tasksAddedInBatch.add(task);
+                addedTasks.add(task);
+            }
         }
+        addedTasks.removeIf(task -> !tasksAddedInBatch.remove(task));
+
+        return removedTasks.isEmpty()
+                ? ModuleBookChange.added(addedTasks)
+                : ModuleBookChange.updated(removedTasks, addedTasks);
     }
 
     /**
@@ -114,10 +222,12 @@ public class ModuleBook implements ReadOnlyModuleBook {
      */
     public void setTask(Task target, Task editedTask) {
         if (checkForSupportedModuleCode(editedTask)) {
-            assert(ModuleManager.moduleIsValid(editedTask.getModule().toString()));
-            ModuleManager.deleteTaskFromMapping(target.getModule(), target);
-            ModuleManager.insertTaskToMapping(editedTask.getModule(), editedTask);
+            assert(Module.isSupportedModuleCode(editedTask.getModule().toString()));
+            Task storedTarget = tasks.getTaskWithSameIdentity(target);
             tasks.setTask(target, editedTask);
+            unindexTask(storedTarget);
+            indexTask(editedTask);
+            publish(ModuleBookChange.replaced(storedTarget, editedTask));
         }
     }
 
@@ -127,9 +237,91 @@ public class ModuleBook implements ReadOnlyModuleBook {
      */
     public void removeTask(Task p) {
         if (checkForSupportedModuleCode(p)) {
-            assert(ModuleManager.moduleIsValid(p.getModule().toString()));
-            ModuleManager.deleteTaskFromMapping(p.getModule(), p);
+            assert(Module.isSupportedModuleCode(p.getModule().toString()));
+            Task storedTask = tasks.getTaskWithSameIdentity(p);
             tasks.remove(p);
+            unindexTask(storedTask);
+            publish(ModuleBookChange.removed(storedTask));
+        }
+    }
+
+    /**
+     * Adds {@code task} to the module book at position {@code index} of the task list.
+     * Unlike {@link #addTask(Task)}, the task is added as it is even if it is recurring, so that an earlier state
+     * of the module book can be restored exactly.
+     * The task must not already exist in the module book.
+     */
+    void insertTask(int index, Task task) {
+        requireNonNull(task);
+        tasks.add(index, task);
+        indexTask(task);
+        publish(ModuleBookChange.added(List.of(task)));
+    }
+
+    /**
+     * Replaces the {@code count} tasks starting at position {@code from} of the task list with {@code replacement}.
+     * The resulting task list must not contain duplicate tasks.
+     */
+    void replaceTasks(int from, int count, List<Task> replacement) {
+        requireNonNull(replacement);
+        List<Task> newTasks = getCurrentTasks();
+        newTasks.subList(from, from + count).clear();
+        newTasks.addAll(from, replacement);
+        setTasks(newTasks);
+    }
+
+    /**
+     * Subscribes {@code subscriber} to the changes made to the tasks of this module book from now on.
+     * Changes are delivered on the thread that makes them, as long as the subscriber has requested them, so a
+     * subscriber that needs to do slow work should hand the changes off to its own executor.
+     */
+    public void subscribe(Flow.Subscriber<? super ModuleBookChange> subscriber) {
+        requireNonNull(subscriber);
+        changePublisher.subscribe(subscriber);
+    }
+
+    /**
+     * Returns the tasks in the module book that have {@code tag}, ignoring case, in no particular order.
+     */
+    public List<Task> getTasksWithTag(Tag tag) {
+        requireNonNull(tag);
+        return new ArrayList<>(tasksByTag.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the tasks in the module book with deadlines from {@code from} to {@code to}, both inclusive,
+     * ordered by deadline.
+     */
+    public List<Task> getTasksDueBetween(Time from, Time to) {
+        return deadlineIndex.getTasksDueBetween(from, to);
+    }
+
+    private void indexTask(Task task) {
+        for (Tag tag : task.getTags()) {
+            tasksByTag.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+        deadlineIndex.add(task);
+    }
+
+    private void unindexTask(Task task) {
+        deadlineIndex.remove(task);
+        for (Tag tag : task.getTags()) {
+            Set<Task> taggedTasks = tasksByTag.get(tag);
+            if (taggedTasks == null) {
+                continue;
+            }
+            taggedTasks.remove(task);
+            if (taggedTasks.isEmpty()) {
+                tasksByTag.remove(tag);
+            }
+        }
+    }
+
+    private void rebuildIndexes() {
+        tasksByTag.clear();
+        deadlineIndex.clear();
+        for (Task task : tasks) {
+            indexTask(task);
         }
     }
 
@@ -140,7 +332,7 @@ public class ModuleBook implements ReadOnlyModuleBook {
      * @return True if Module is supported
      */
     public boolean checkForSupportedModuleCode(Task task) {
-        return ModuleManager.getListOfSupportingModules().contains(task.getModule().toString());
+        return Module.isSupportedModuleCode(task.getModule().toString());
     }
 
     //// util methods
@@ -156,6 +348,25 @@ public class ModuleBook implements ReadOnlyModuleBook {
         return tasks.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a copy of the tasks in the module book as they are now, including the changes in a batch that has
+     * not been committed yet.
+     */
+    public List<Task> getCurrentTasks() {
+        List<Task> currentTasks = new ArrayList<>();
+        tasks.forEach(currentTasks::add);
+        return currentTasks;
+    }
+
+    /**
+     * Returns an immutable view of the tasks in this module book as they are now.
+     * Changes in a batch that has not been committed are not included.
+     * Taking a snapshot takes constant time, as the snapshot shares its tasks with the module book until they change.
+     */
+    public ReadOnlyModuleBook snapshot() {
+        return new ModuleBookSnapshot(tasks.asSnapshot());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,120 @@
+package seedu.module.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.module.model.task.Task;
+
+/**
+ * A change made to the tasks of a {@code ModuleBook}, as published to its subscribers.
+ * Guarantees: immutable.
+ */
+public class ModuleBookChange {
+
+    /**
+     * The kinds of change that can be made to a module book.
+     */
+    public enum Type {
+        /** Tasks were added. */
+        ADDED,
+        /** A task was replaced by another task. */
+        REPLACED,
+        /** A task was removed. */
+        REMOVED,
+        /** Tasks were removed and other tasks added, in a batch of changes. */
+        UPDATED,
+        /** All tasks were replaced, and the tasks before the change are not given. */
+        RESET
+    }
+
+    private final Type type;
+    private final List<Task> removedTasks;
+    private final List<Task> addedTasks;
+
+    private ModuleBookChange(Type type, List<Task> removedTasks, List<Task> addedTasks) {
+        this.type = type;
+        this.removedTasks = removedTasks;
+        this.addedTasks = addedTasks;
+    }
+
+    /**
+     * Returns a change in which {@code tasks} were added.
+     */
+    public static ModuleBookChange added(List<Task> tasks) {
+        requireNonNull(tasks);
+        return new ModuleBookChange(Type.ADDED, Collections.emptyList(), List.copyOf(tasks));
+    }
+
+    /**
+     * Returns a change in which {@code target} was replaced by {@code editedTask}.
+     */
+    public static ModuleBookChange replaced(Task target, Task editedTask) {
+        requireAllNonNull(target, editedTask);
+        return new ModuleBookChange(Type.REPLACED, List.of(target), List.of(editedTask));
+    }
+
+    /**
+     * Returns a change in which {@code task} was removed.
+     */
+    public static ModuleBookChange removed(Task task) {
+        requireNonNull(task);
+        return new ModuleBookChange(Type.REMOVED, List.of(task), Collections.emptyList());
+    }
+
+    /**
+     * Returns a change in which {@code removedTasks} were removed and {@code addedTasks} were added.
+     */
+    public static ModuleBookChange updated(List<Task> removedTasks, List<Task> addedTasks) {
+        requireAllNonNull(removedTasks, addedTasks);
+        return new ModuleBookChange(Type.UPDATED, List.copyOf(removedTasks), List.copyOf(addedTasks));
+    }
+
+    /**
+     * Returns a change in which all tasks were replaced by {@code tasks}.
+     */
+    public static ModuleBookChange reset(List<Task> tasks) {
+        requireNonNull(tasks);
+        return new ModuleBookChange(Type.RESET, Collections.emptyList(), List.copyOf(tasks));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the tasks that were removed, which is empty for {@code ADDED} and {@code RESET} changes.
+     */
+    public List<Task> getRemovedTasks() {
+        return removedTasks;
+    }
+
+    /**
+     * Returns the tasks that were added, which for a {@code RESET} change are all tasks after the change.
+     */
+    public List<Task> getAddedTasks() {
+        return addedTasks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleBookChange // instanceof handles nulls
+                && type == ((ModuleBookChange) other).type
+                && removedTasks.equals(((ModuleBookChange) other).removedTasks)
+                && addedTasks.equals(((ModuleBookChange) other).addedTasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, removedTasks, addedTasks);
+    }
+
+    @Override
+    public String toString() {
+        return type + ": removed " + removedTasks.size() + " tasks, added " + addedTasks.size() + " tasks";
+    }
+}
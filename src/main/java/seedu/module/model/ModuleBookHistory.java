@@ -0,0 +1,190 @@
+package seedu.module.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.module.model.task.Task;
+
+/**
+ * The undo/redo history of a {@code ModuleBook}.
+ * Instead of a copy of the whole module book, each step of the history keeps only the changes made to the task
+ * list in that step, as reported by the task list itself. Tasks are immutable, so the changes share the task
+ * objects with the module book and a step that changes a single task costs constant memory, even when the change
+ * was published as part of a batch.
+ * At most {@link #MAX_STEPS} steps are kept, after which the oldest steps are forgotten.
+ */
+class ModuleBookHistory {
+
+    public static final int MAX_STEPS = 100;
+
+    private final Deque<List<TaskListChange>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<TaskListChange>> redoSteps = new ArrayDeque<>();
+    private List<TaskListChange> uncommittedChanges = new ArrayList<>();
+    private boolean isRestoring = false;
+
+    /**
+     * Records the changes in {@code change} as part of the current step.
+     * Changes made by {@link #undo(ModuleBook)} and {@link #redo(ModuleBook)} themselves are not recorded.
+     */
+    void record(ListChangeListener.Change<? extends Task> change) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            assert !change.wasPermutated() : "The task list is never reordered in place";
+            recordReplacement(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Records the replacement of the tasks {@code removed} starting at position {@code from} by the tasks
+     * {@code added}, keeping only the tasks that actually changed.
+     * A committed batch replaces the whole task list at once, so the tasks it left in place are skipped over.
+     */
+    private void recordReplacement(int from, List<? extends Task> removed, List<? extends Task> added) {
+        int prefix = 0;
+        while (prefix < removed.size() && prefix < added.size() && removed.get(prefix) == added.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < removed.size() - prefix && suffix < added.size() - prefix
+                && removed.get(removed.size() - 1 - suffix) == added.get(added.size() - 1 - suffix)) {
+            suffix++;
+        }
+        List<? extends Task> changedRemoved = removed.subList(prefix, removed.size() - suffix);
+        List<? extends Task> changedAdded = added.subList(prefix, added.size() - suffix);
+
+        if (changedRemoved.size() != changedAdded.size()) {
+            uncommittedChanges.add(new TaskListChange(from + prefix,
+                    List.copyOf(changedRemoved), List.copyOf(changedAdded)));
+            return;
+        }
+        // Tasks replaced one for one, such as by refreshing recurring tasks, are recorded one at a time
+        for (int i = 0; i < changedRemoved.size(); i++) {
+            if (changedRemoved.get(i) != changedAdded.get(i)) {
+                uncommittedChanges.add(new TaskListChange(from + prefix + i,
+                        List.of(changedRemoved.get(i)), List.of(changedAdded.get(i))));
+            }
+        }
+    }
+
+    /**
+     * Ends the current step, so that it can be undone. Does nothing if nothing has changed in the current step.
+     * Steps that were undone can no longer be redone afterwards.
+     */
+    void commit() {
+        if (uncommittedChanges.isEmpty()) {
+            return;
+        }
+        undoSteps.push(uncommittedChanges);
+        if (undoSteps.size() > MAX_STEPS) {
+            undoSteps.removeLast();
+        }
+        redoSteps.clear();
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    /**
+     * Forgets all steps, including the changes in the current step.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !uncommittedChanges.isEmpty();
+    }
+
+    boolean canRedo() {
+        return uncommittedChanges.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Restores {@code moduleBook} to its state before the last step, committing the current step first.
+     */
+    void undo(ModuleBook moduleBook) {
+        requireNonNull(moduleBook);
+        assert canUndo() : "No step to undo";
+        commit();
+
+        List<TaskListChange> changes = undoSteps.pop();
+        restore(moduleBook, () -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).inverse().applyTo(moduleBook);
+            }
+        });
+        redoSteps.push(changes);
+    }
+
+    /**
+     * Restores {@code moduleBook} to its state after the last undone step.
+     */
+    void redo(ModuleBook moduleBook) {
+        requireNonNull(moduleBook);
+        assert canRedo() : "No step to redo";
+
+        List<TaskListChange> changes = redoSteps.pop();
+        restore(moduleBook, () -> {
+            for (TaskListChange change : changes) {
+                change.applyTo(moduleBook);
+            }
+        });
+        undoSteps.push(changes);
+    }
+
+    /**
+     * Runs {@code restoration} on {@code moduleBook} as a single batch, without recording its changes.
+     */
+    private void restore(ModuleBook moduleBook, Runnable restoration) {
+        isRestoring = true;
+        moduleBook.beginBatch();
+        try {
+            restoration.run();
+        } finally {
+            moduleBook.commitBatch();
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * A change to the task list, in which the tasks {@code removed} starting at position {@code from} are replaced
+     * by the tasks {@code added}.
+     */
+    private static class TaskListChange {
+        private final int from;
+        private final List<Task> removed;
+        private final List<Task> added;
+
+        TaskListChange(int from, List<Task> removed, List<Task> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        TaskListChange inverse() {
+            return new TaskListChange(from, added, removed);
+        }
+
+        /**
+         * Makes this change to {@code moduleBook}, updating single tasks in place where possible.
+         */
+        void applyTo(ModuleBook moduleBook) {
+            if (removed.size() == 1 && added.size() == 1) {
+                moduleBook.setTask(removed.get(0), added.get(0));
+            } else if (removed.size() == 1 && added.isEmpty()) {
+                moduleBook.removeTask(removed.get(0));
+            } else if (removed.isEmpty() && added.size() == 1) {
+                moduleBook.insertTask(from, added.get(0));
+            } else {
+                moduleBook.replaceTasks(from, removed.size(), added);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.module.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.module.model.task.Task;
+
+/**
+ * An immutable, point-in-time view of a module book.
+ * It does not change when the module book it was taken from changes, so it can be read from any thread,
+ * for example to save the module book in the background.
+ */
+class ModuleBookSnapshot implements ReadOnlyModuleBook {
+
+    private final ObservableList<Task> tasks;
+
+    /**
+     * Creates a snapshot of {@code tasks}, which must never be changed afterwards.
+     */
+    ModuleBookSnapshot(List<Task> tasks) {
+        requireNonNull(tasks);
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ModuleBookSnapshot // instanceof handles nulls
+                && tasks.equals(((ModuleBookSnapshot) other).tasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return tasks.hashCode();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.module.model;
+
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.module.commons.core.LogsCenter;
+import seedu.module.model.task.Task;
+
+/**
+ * Applies the changes of a module book to something that follows its tasks, one at a time, requesting the next
+ * change only after the current one has been applied.
+ * A publisher cancels a subscription as soon as its subscriber throws, so a change that cannot be applied is
+ * handled here instead: what follows the tasks is rebuilt from the current tasks of the module book, and the
+ * subscriber keeps following the changes after it.
+ */
+class ModuleBookSubscriber implements Flow.Subscriber<ModuleBookChange> {
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleBookSubscriber.class);
+
+    private final String followerName;
+    private final ModuleBook moduleBook;
+    private final Consumer<ModuleBookChange> changeApplier;
+    private final Consumer<List<Task>> rebuilder;
+    private Flow.Subscription subscription;
+
+    /**
+     * Creates a subscriber that applies each change of {@code moduleBook} with {@code changeApplier}, or rebuilds
+     * from all the tasks of {@code moduleBook} with {@code rebuilder} if that fails.
+     * {@code followerName} names what follows the tasks in the log.
+     */
+    ModuleBookSubscriber(String followerName, ModuleBook moduleBook,
+            Consumer<ModuleBookChange> changeApplier, Consumer<List<Task>> rebuilder) {
+        requireAllNonNull(followerName, moduleBook, changeApplier, rebuilder);
+        this.followerName = followerName;
+        this.moduleBook = moduleBook;
+        this.changeApplier = changeApplier;
+        this.rebuilder = rebuilder;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ModuleBookChange change) {
+        try {
+            changeApplier.accept(change);
+        } catch (RuntimeException | AssertionError e) {
+            logger.warning("Rebuilding " + followerName + " after failing to apply " + change + ": " + e);
+            rebuilder.accept(moduleBook.getCurrentTasks());
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        logger.warning("Stopped updating " + followerName + ": " + throwable);
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}
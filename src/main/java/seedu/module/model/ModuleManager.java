@@ -1,61 +1,66 @@
 package seedu.module.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.PieChart;
 import seedu.module.model.task.Module;
+import seedu.module.model.task.ModuleCatalog;
 import seedu.module.model.task.Task;
 
 /**
  * Represents a collection of Modules, and the list of Tasks associated with each.
+ * Each model has its own ModuleManager, which follows the changes published by its module book.
+ * The ModuleManager must only be used on the thread that changes the module book, which is the only thread that
+ * publishes changes to it. The workload counters are kept in arrays of primitive counters indexed by the ordinal
+ * of each supported Module, so they are updated without allocating. The ordinals are those of the
+ * {@code ModuleCatalog} in use when the ModuleManager is created.
+ * The list of existing Modules and the pie chart data are updated in place: each existing Module keeps one entry
+ * in the list and one long-lived slice in the pie chart, in the order of the supported Modules, and only the
+ * entries of the Modules whose Tasks changed are updated.
  */
 public class ModuleManager {
 
-    private static final ObservableList<Module> moduleList = FXCollections.observableArrayList();
-    private static final ObservableList<PieChart.Data> modulePieChartData = FXCollections.observableArrayList();
-    private static HashMap<Module, List<Task>> mappingOfModulesToTasks;
-    private static HashMap<Module, Integer> moduleWorkLoadDistribution;
-    private static HashMap<Module, Integer> moduleLowWorkLoadDistribution;
-    private static HashMap<Module, Integer> moduleMediumWorkLoadDistribution;
-    private static HashMap<Module, Integer> moduleHighWorkLoadDistribution;
-    private static List<String> supportedModulesInStr;
-    private static final String[] arrOfModules = {"CS1010S", "CS1101S", "CS1231S",
-        "CS2030", "CS2040S", "CS2101", "CS2102", "CS2103T", "CS2105", "CS2106", "CS3103",
-        "CS3210", "CS3212", "CS3217", "CS3219", "CS3220", "CS3221", "CS3223", "CS3225",
-        "CS3230", "CS3231", "CS3233", "CS3243", "CS3244", "IS1103", "ST2131"};
     private static final int LOW_LEVEL = 1;
     private static final int MEDIUM_LEVEL = 2;
     private static final int HIGH_LEVEL = 3;
 
+    private final ModuleCatalog catalog = ModuleCatalog.getCatalog();
+    private final ObservableList<Module> moduleList = FXCollections.observableArrayList();
+    private final ObservableList<PieChart.Data> modulePieChartData = FXCollections.observableArrayList();
+    private final HashMap<Module, List<Task>> mappingOfModulesToTasks = new HashMap<>();
+    private final int[] moduleWorkLoadDistribution = new int[catalog.size()];
+    private final int[] moduleLowWorkLoadDistribution = new int[catalog.size()];
+    private final int[] moduleMediumWorkLoadDistribution = new int[catalog.size()];
+    private final int[] moduleHighWorkLoadDistribution = new int[catalog.size()];
+    private final Module[] modulesByOrdinal = new Module[catalog.size()];
+    private final PieChart.Data[] pieSlicesByOrdinal = new PieChart.Data[catalog.size()];
+    // Ordinals of the Modules whose entries in the module list and the pie chart data are out of date
+    private final BitSet changedModules = new BitSet(catalog.size());
+    private int batchDepth = 0;
+
     /**
      * A ModuleManager which manages the mapping of each module to its
      * associated List of Tasks.
      */
     public ModuleManager() {
-        supportedModulesInStr = initListOfModulesAccepted();
-        rebuildMapping();
-    }
-
-    /**
-     * Initialize a List of Modules in String format.
-     */
-    public static void initSupportedModulesInStr() {
-        supportedModulesInStr = initListOfModulesAccepted();
     }
 
     /**
-     * Check whether a Module is valid to be used (supported).
-     *
-     * @param module Module
-     * @return True if Module exists in our List of supported Modules.
+     * Returns the ordinal of {@code module} in the catalog of supported Modules, which indexes its workload counters.
      */
-    public static boolean moduleIsValid(String module) {
-        return supportedModulesInStr.contains(module);
+    private int ordinalOf(Module module) {
+        int ordinal = catalog.ordinalOf(module);
+        assert ordinal >= 0 : "Module is not supported: " + module;
+        return ordinal;
     }
 
     /**
@@ -66,55 +71,152 @@ public class ModuleManager {
      * @param module Module
      * @param task Task
      */
-    public static void insertTaskToMapping(Module module, Task task) {
-        if (mappingOfModulesToTasks == null) {
-            rebuildMapping();
-        }
+    public void insertTaskToMapping(Module module, Task task) {
+        requireNonNull(module);
         insertTaskInternal(module, task);
         increaseCorrectWorkloadDistribution(module, task);
-        setExistingModuleList();
-        setModulePieChartData();
+        refreshModuleData();
     }
 
-    private static void insertTaskInternal(Module module, Task task) {
-        if (mappingOfModulesToTasks.containsKey(module)) {
-            List<Task> newList = mappingOfModulesToTasks.get(module);
-            //must ensure Module exists in the listOfValidModules
-            newList.add(task);
-            mappingOfModulesToTasks.put(module, newList);
-        } else {
-            List<Task> newList = new ArrayList<>();
-            newList.add(task);
-            mappingOfModulesToTasks.put(module, newList);
+    /**
+     * Inserts all Tasks in {@code tasks} into the mappings of their Modules.
+     * The list of existing Modules and the pie chart data are only refreshed once, after all Tasks are inserted.
+     *
+     * @param tasks Tasks to insert
+     */
+    public void insertTasksToMapping(List<Task> tasks) {
+        for (Task task : tasks) {
+            insertTaskInternal(task.getModule(), task);
+            increaseCorrectWorkloadDistribution(task.getModule(), task);
         }
+        refreshModuleData();
     }
 
     /**
-     * Modifies the workload distribution after adding the task.
-     *
-     * @param module the corresponding module of the task
-     * @param task the task that need to be inserted into mapping book.
+     * Returns a new subscriber that keeps the mappings up to date with the changes published by {@code moduleBook}.
      */
-    public static void increaseCorrectWorkloadDistribution(Module module, Task task) {
-        int workloadLevel = task.getWorkload().getWorkloadLevel();
-        moduleWorkLoadDistribution.put(module,
-            moduleWorkLoadDistribution.getOrDefault(module, 0) + workloadLevel);
-        switch(workloadLevel) {
-        case LOW_LEVEL:
-            moduleLowWorkLoadDistribution.put(module,
-                moduleLowWorkLoadDistribution.getOrDefault(module, 0) + 1);
+    public Flow.Subscriber<ModuleBookChange> newMappingSubscriber(ModuleBook moduleBook) {
+        return new ModuleBookSubscriber("module mappings", moduleBook, this::applyChange, this::rebuildMapping);
+    }
+
+    /**
+     * Updates the mappings with {@code change}.
+     */
+    void applyChange(ModuleBookChange change) {
+        // A Module that loses its last Task and gains another in the same change keeps its entries
+        beginBatch();
+        try {
+            applyChangeToMapping(change);
+        } finally {
+            commitBatch();
+        }
+    }
+
+    private void applyChangeToMapping(ModuleBookChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            insertTasksToMapping(change.getAddedTasks());
             break;
-        case MEDIUM_LEVEL:
-            moduleMediumWorkLoadDistribution.put(module,
-                moduleMediumWorkLoadDistribution.getOrDefault(module, 0) + 1);
+        case REPLACED:
+        case REMOVED:
+        case UPDATED:
+            for (Task task : change.getRemovedTasks()) {
+                deleteTaskFromMapping(task.getModule(), task);
+            }
+            insertTasksToMapping(change.getAddedTasks());
             break;
-        case HIGH_LEVEL:
-            moduleHighWorkLoadDistribution.put(module,
-                moduleHighWorkLoadDistribution.getOrDefault(module, 0) + 1);
+        case RESET:
+            rebuildMapping();
+            insertTasksToMapping(change.getAddedTasks());
             break;
         default:
-            assert false;
+            assert false : "Unknown type of change: " + change.getType();
+        }
+    }
+
+    /**
+     * Defers refreshing the list of existing Modules and the pie chart data until the matching
+     * {@link #commitBatch()}, so that a batch of insertions and deletions only refreshes them once.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the last {@link #beginBatch()}, refreshing the list of existing Modules and the
+     * pie chart data if the mappings were changed during the outermost batch.
+     */
+    public void commitBatch() {
+        assert batchDepth > 0 : "No batch to commit";
+        batchDepth--;
+        refreshModuleData();
+    }
+
+    /**
+     * Brings the entries of the changed Modules in the list of existing Modules and the pie chart data up to date,
+     * unless a batch is in progress.
+     */
+    private void refreshModuleData() {
+        if (batchDepth > 0) {
+            return;
+        }
+        for (int ordinal = changedModules.nextSetBit(0); ordinal >= 0;
+                ordinal = changedModules.nextSetBit(ordinal + 1)) {
+            refreshModuleEntries(ordinal);
+        }
+        changedModules.clear();
+    }
+
+    /**
+     * Adds, updates or removes the entries of the Module with {@code ordinal}, depending on whether it still has
+     * Tasks and whether it had entries before.
+     */
+    private void refreshModuleEntries(int ordinal) {
+        Module module = modulesByOrdinal[ordinal];
+        PieChart.Data pieSlice = pieSlicesByOrdinal[ordinal];
+        boolean hasTasks = mappingOfModulesToTasks.containsKey(module);
+        if (hasTasks && pieSlice == null) {
+            pieSlicesByOrdinal[ordinal] = new PieChart.Data(module.toString(), getModuleWorkload(module));
+            int index = countModuleEntriesBefore(ordinal);
+            moduleList.add(index, module);
+            modulePieChartData.add(index, pieSlicesByOrdinal[ordinal]);
+        } else if (!hasTasks && pieSlice != null) {
+            pieSlicesByOrdinal[ordinal] = null;
+            moduleList.remove(module);
+            modulePieChartData.remove(pieSlice);
+        } else if (hasTasks) {
+            pieSlice.setPieValue(getModuleWorkload(module));
+            // Replaces the entry with itself, so that the card of the Module shows its new workload information
+            moduleList.set(countModuleEntriesBefore(ordinal), module);
+        }
+    }
+
+    /**
+     * Returns the number of Modules with entries whose ordinals are smaller than {@code ordinal}, which is where the
+     * entries of the Module with {@code ordinal} belong, as the entries are kept in the order of the ordinals.
+     */
+    private int countModuleEntriesBefore(int ordinal) {
+        int count = 0;
+        for (int i = 0; i < ordinal; i++) {
+            if (pieSlicesByOrdinal[i] != null) {
+                count++;
+            }
         }
+        return count;
+    }
+
+    private void insertTaskInternal(Module module, Task task) {
+        mappingOfModulesToTasks.computeIfAbsent(module, unused -> new ArrayList<>()).add(task);
+    }
+
+    /**
+     * Modifies the workload distribution after adding the task.
+     *
+     * @param module the corresponding module of the task
+     * @param task the task that need to be inserted into mapping book.
+     */
+    private void increaseCorrectWorkloadDistribution(Module module, Task task) {
+        updateWorkloadDistribution(module, task, 1);
     }
 
     /**
@@ -123,41 +225,55 @@ public class ModuleManager {
      * @param module the corresponding module of the task
      * @param task the task that need to be inserted into mapping book.
      */
-    public static void decreaseCorrectWorkloadDistribution(Module module, Task task) {
+    private void decreaseCorrectWorkloadDistribution(Module module, Task task) {
+        updateWorkloadDistribution(module, task, -1);
+    }
+
+    /**
+     * Adds {@code delta} of {@code task} to the workload counters of {@code module}.
+     */
+    private void updateWorkloadDistribution(Module module, Task task, int delta) {
+        int ordinal = ordinalOf(module);
+        modulesByOrdinal[ordinal] = module;
+        changedModules.set(ordinal);
         int workloadLevel = task.getWorkload().getWorkloadLevel();
-        moduleWorkLoadDistribution.put(module,
-                moduleWorkLoadDistribution.get(module) - task.getWorkload().getWorkloadLevel());
+        moduleWorkLoadDistribution[ordinal] += delta * workloadLevel;
         switch(workloadLevel) {
         case LOW_LEVEL:
-            moduleLowWorkLoadDistribution.put(module,
-                moduleLowWorkLoadDistribution.getOrDefault(module, 1) - 1);
+            moduleLowWorkLoadDistribution[ordinal] += delta;
             break;
         case MEDIUM_LEVEL:
-            moduleMediumWorkLoadDistribution.put(module,
-                moduleMediumWorkLoadDistribution.getOrDefault(module, 1) - 1);
+            moduleMediumWorkLoadDistribution[ordinal] += delta;
             break;
         case HIGH_LEVEL:
-            moduleHighWorkLoadDistribution.put(module,
-                moduleHighWorkLoadDistribution.getOrDefault(module, 1) - 1);
+            moduleHighWorkLoadDistribution[ordinal] += delta;
             break;
         default:
             assert false;
         }
     }
 
+    /**
+     * Returns the total workload of the tasks of {@code module}.
+     */
+    public int getModuleWorkload(Module module) {
+        return moduleWorkLoadDistribution[ordinalOf(module)];
+    }
+
     /**
      * Gets workload information of the {@code module}
      *
      * @param module the module to be checked.
      * @return return the workload information of one module.
      */
-    public static String getModuleWorkloadInformation(Module module) {
+    public String getModuleWorkloadInformation(Module module) {
+        int ordinal = ordinalOf(module);
         String moduleWorkLoadInformation = String.format("low workload tasks: %d\n"
                 + "medium workload tasks: %d\n"
                 + "high workload tasks: %d\n",
-            moduleLowWorkLoadDistribution.getOrDefault(module, 0),
-            moduleMediumWorkLoadDistribution.getOrDefault(module, 0),
-            moduleHighWorkLoadDistribution.getOrDefault(module, 0));
+            moduleLowWorkLoadDistribution[ordinal],
+            moduleMediumWorkLoadDistribution[ordinal],
+            moduleHighWorkLoadDistribution[ordinal]);
         return moduleWorkLoadInformation;
     }
 
@@ -169,93 +285,67 @@ public class ModuleManager {
      * @param module Module
      * @param task Task
      */
-    public static void deleteTaskFromMapping(Module module, Task task) {
+    public void deleteTaskFromMapping(Module module, Task task) {
         assert(module != null && task != null);
         assert(mappingOfModulesToTasks.containsKey(module));
         List<Task> newList = mappingOfModulesToTasks.get(module);
         //must ensure Module exists in the listOfValidModules
         newList.remove(task);
-        deleteTaskInternal(module, newList);
-        decreaseCorrectWorkloadDistribution(module, task);
-        setExistingModuleList();
-        setModulePieChartData();
-    }
-
-    private static void deleteTaskInternal(Module module, List<Task> newList) {
         if (newList.isEmpty()) { //remove the module(key) from mapping if no task is associated with it
             mappingOfModulesToTasks.remove(module);
-        } else {
-            mappingOfModulesToTasks.put(module, newList);
         }
+        decreaseCorrectWorkloadDistribution(module, task);
+        refreshModuleData();
     }
 
     /**
      * Returns the mapping of Modules to Tasks.
      */
-    public static HashMap<Module, List<Task>> getMappingOfModulesToTasks() {
+    public HashMap<Module, List<Task>> getMappingOfModulesToTasks() {
         return mappingOfModulesToTasks;
     }
 
     /**
      * Discards all current mappings of Modules to Tasks.
+     * Within a batch, the entries of Modules that get Tasks again before the batch is committed are kept.
      */
-    public static void rebuildMapping() {
-        mappingOfModulesToTasks = new HashMap<>();
-        moduleWorkLoadDistribution = new HashMap<>();
-        moduleLowWorkLoadDistribution = new HashMap<>();
-        moduleMediumWorkLoadDistribution = new HashMap<>();
-        moduleHighWorkLoadDistribution = new HashMap<>();
-        moduleList.clear();
-        modulePieChartData.clear();
-    }
-
-    /**
-     * Returns a list of existing Modules.
-     */
-    public static List<String> getListOfSupportingModules() {
-        return supportedModulesInStr;
-    }
-
-    /**
-     * Initialize list of valid/accepted modules with basic modules.
-     *
-     * @return List of String associated with basic modules
-     */
-    private static List<String> initListOfModulesAccepted() {
-        List<String> listOfModules = new ArrayList<>(Arrays.asList(arrOfModules));
-        return listOfModules;
-    }
-
-    /**
-     * Fills the observable list of existingModules with the keySet of the mapping.
-     */
-    public static void setExistingModuleList() {
-        List<Module> existingModules = List.copyOf(mappingOfModulesToTasks.keySet());
-        moduleList.setAll(existingModules);
+    public void rebuildMapping() {
+        for (Module module : mappingOfModulesToTasks.keySet()) {
+            changedModules.set(ordinalOf(module));
+        }
+        mappingOfModulesToTasks.clear();
+        Arrays.fill(moduleWorkLoadDistribution, 0);
+        Arrays.fill(moduleLowWorkLoadDistribution, 0);
+        Arrays.fill(moduleMediumWorkLoadDistribution, 0);
+        Arrays.fill(moduleHighWorkLoadDistribution, 0);
+        refreshModuleData();
     }
 
     /**
-     * Fills the observable list of existingModules with the keySet of the mapping.
+     * Replaces all current mappings of Modules to Tasks with the mappings of {@code tasks}.
+     * The list of existing Modules and the pie chart data are only refreshed once, after all Tasks are inserted.
      */
-    public static void setModulePieChartData() {
-        modulePieChartData.clear();
-        for (int i = 0; i < moduleList.size(); i++) {
-            Module module = moduleList.get(i);
-            modulePieChartData.add(new PieChart.Data(module.toString(), moduleWorkLoadDistribution.get(module)));
+    public void rebuildMapping(List<Task> tasks) {
+        beginBatch();
+        try {
+            rebuildMapping();
+            insertTasksToMapping(tasks);
+        } finally {
+            commitBatch();
         }
     }
 
     /**
      * @return Observable List of existing modules.
      */
-    public static ObservableList<Module> getExistingModuleList() {
+    public ObservableList<Module> getExistingModuleList() {
         return moduleList;
     }
 
     /**
      * @return Observable List of existing modules data.
      */
-    public static ObservableList<PieChart.Data> getModulePieChartData() {
+    public ObservableList<PieChart.Data> getModulePieChartData() {
         return modulePieChartData;
     }
 }
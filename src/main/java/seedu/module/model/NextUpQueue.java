@@ -0,0 +1,204 @@
+package seedu.module.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Flow;
+
+import seedu.module.model.task.Task;
+
+/**
+ * The tasks that are not done yet, ranked by what should be done next.
+ * A task ranks higher the closer its deadline is, and each workload level above the lowest counts as if the
+ * deadline were {@link #HEADSTART_MINUTES_PER_WORKLOAD_LEVEL} minutes closer. Ties go to the task created first.
+ * Each model has its own NextUpQueue, which follows the changes published by its module book.
+ * The tasks are kept in an indexed binary heap, so that adding, removing or replacing a task takes O(log n) time,
+ * and the top k tasks can be found in O(k log k) time without sorting all the tasks.
+ * Tasks are tracked by reference, so the exact task objects that were added must be used to remove them.
+ */
+public class NextUpQueue {
+
+    public static final long HEADSTART_MINUTES_PER_WORKLOAD_LEVEL = 24 * 60;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Task[] heap = new Task[INITIAL_CAPACITY];
+    private long[] scores = new long[INITIAL_CAPACITY];
+    private int size = 0;
+    // Position of each task in the heap
+    private final Map<Task, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code task} to the queue, unless it is done.
+     */
+    public void addTask(Task task) {
+        requireNonNull(task);
+        if (task.getDoneStatus().getIsDone()) {
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * size);
+            scores = Arrays.copyOf(scores, 2 * size);
+        }
+        heap[size] = task;
+        scores[size] = scoreOf(task);
+        positions.put(task, size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Removes {@code task} from the queue. Does nothing if {@code task} is not in the queue.
+     */
+    public void removeTask(Task task) {
+        requireNonNull(task);
+        Integer position = positions.remove(task);
+        if (position == null) {
+            return;
+        }
+        size--;
+        if (position != size) {
+            move(size, position);
+            if (!siftUp(position)) {
+                siftDown(position);
+            }
+        }
+        heap[size] = null;
+    }
+
+    /**
+     * Removes all tasks from the queue.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        positions.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new subscriber that keeps this queue up to date with the changes published by {@code moduleBook}.
+     */
+    public Flow.Subscriber<ModuleBookChange> newQueueSubscriber(ModuleBook moduleBook) {
+        return new ModuleBookSubscriber("next up queue", moduleBook, this::applyChange, this::rebuild);
+    }
+
+    /**
+     * Replaces the tasks in this queue with {@code tasks}.
+     */
+    public void rebuild(List<Task> tasks) {
+        clear();
+        tasks.forEach(this::addTask);
+    }
+
+    /**
+     * Updates this queue with {@code change}.
+     */
+    void applyChange(ModuleBookChange change) {
+        if (change.getType() == ModuleBookChange.Type.RESET) {
+            clear();
+        }
+        change.getRemovedTasks().forEach(this::removeTask);
+        change.getAddedTasks().forEach(this::addTask);
+    }
+
+    /**
+     * Returns at most {@code limit} tasks that should be done next, highest ranked first.
+     */
+    public List<Task> getNextTasks(int limit) {
+        checkArgument(limit >= 0);
+        List<Task> nextTasks = new ArrayList<>(Math.min(limit, size));
+        if (limit == 0 || size == 0) {
+            return nextTasks;
+        }
+
+        // The next task is always a child of one of the tasks taken so far, so only those children are compared
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(this::compare);
+        candidates.add(0);
+        while (nextTasks.size() < limit && !candidates.isEmpty()) {
+            int position = candidates.poll();
+            nextTasks.add(heap[position]);
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < size; child++) {
+                candidates.add(child);
+            }
+        }
+        return nextTasks;
+    }
+
+    /**
+     * Returns the score of {@code task}, where tasks with lower scores should be done first.
+     */
+    static long scoreOf(Task task) {
+        int levelsAboveLowest = task.getWorkload().getWorkloadLevel() - 1;
+        return task.getDeadline().getEpochMinute() - levelsAboveLowest * HEADSTART_MINUTES_PER_WORKLOAD_LEVEL;
+    }
+
+    /**
+     * Compares the tasks at positions {@code i} and {@code j}, where the one that should be done first is smaller.
+     */
+    private int compare(int i, int j) {
+        int result = Long.compare(scores[i], scores[j]);
+        return result != 0 ? result : Long.compare(heap[i].getId(), heap[j].getId());
+    }
+
+    /**
+     * Moves the task at {@code position} up until its parent should be done before it.
+     * Returns true if the task was moved.
+     */
+    private boolean siftUp(int position) {
+        int start = position;
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (compare(parent, position) <= 0) {
+                break;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+        return position != start;
+    }
+
+    /**
+     * Moves the task at {@code position} down until it should be done before both its children.
+     */
+    private void siftDown(int position) {
+        while (2 * position + 1 < size) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && compare(child + 1, child) < 0) {
+                child++;
+            }
+            if (compare(position, child) <= 0) {
+                break;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Task task = heap[i];
+        long score = scores[i];
+        move(j, i);
+        heap[j] = task;
+        scores[j] = score;
+        positions.put(task, j);
+    }
+
+    /**
+     * Moves the task at {@code from} to {@code to}, overwriting the task there.
+     */
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        scores[to] = scores[from];
+        positions.put(heap[to], to);
+    }
+}
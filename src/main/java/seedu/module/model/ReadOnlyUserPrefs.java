@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getModuleBookFilePath();
 
+    int getMaxOpenModuleBooks();
+
+    Path getModuleCatalogFilePath();
+
 }
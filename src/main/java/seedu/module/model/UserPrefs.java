@@ -1,6 +1,7 @@
 package seedu.module.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,14 @@ import seedu.module.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_MAX_OPEN_MODULE_BOOKS = 3;
+    public static final String MESSAGE_MAX_OPEN_MODULE_BOOKS_CONSTRAINTS =
+            "The maximum number of open module books should be at least 1";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path moduleBookFilePath = Paths.get("data" , "modulebook.json");
+    private int maxOpenModuleBooks = DEFAULT_MAX_OPEN_MODULE_BOOKS;
+    private Path moduleCatalogFilePath = Paths.get("data", "modules.txt");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setModuleBookFilePath(newUserPrefs.getModuleBookFilePath());
+        setMaxOpenModuleBooks(newUserPrefs.getMaxOpenModuleBooks());
+        setModuleCatalogFilePath(newUserPrefs.getModuleCatalogFilePath());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.moduleBookFilePath = moduleBookFilePath;
     }
 
+    public int getMaxOpenModuleBooks() {
+        return maxOpenModuleBooks;
+    }
+
+    /**
+     * Sets the maximum number of module books kept in memory, including the one being used.
+     */
+    public void setMaxOpenModuleBooks(int maxOpenModuleBooks) {
+        checkArgument(maxOpenModuleBooks >= 1, MESSAGE_MAX_OPEN_MODULE_BOOKS_CONSTRAINTS);
+        this.maxOpenModuleBooks = maxOpenModuleBooks;
+    }
+
+    public Path getModuleCatalogFilePath() {
+        return moduleCatalogFilePath;
+    }
+
+    /**
+     * Sets the file of extra module codes to support, in addition to the module codes bundled with ModuleBook.
+     */
+    public void setModuleCatalogFilePath(Path moduleCatalogFilePath) {
+        requireNonNull(moduleCatalogFilePath);
+        this.moduleCatalogFilePath = moduleCatalogFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && moduleBookFilePath.equals(o.moduleBookFilePath);
+                && moduleBookFilePath.equals(o.moduleBookFilePath)
+                && maxOpenModuleBooks == o.maxOpenModuleBooks
+                && moduleCatalogFilePath.equals(o.moduleCatalogFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, moduleBookFilePath);
+        return Objects.hash(guiSettings, moduleBookFilePath, maxOpenModuleBooks, moduleCatalogFilePath);
     }
 
     @Override
@@ -81,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + moduleBookFilePath);
+        sb.append("\nMaximum open module books : " + maxOpenModuleBooks);
+        sb.append("\nModule catalog file location : " + moduleCatalogFilePath);
         return sb.toString();
     }
 
@@ -0,0 +1,228 @@
+package seedu.module.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Flow;
+
+import seedu.module.model.task.Task;
+
+/**
+ * The workload of the tasks that are not done yet, summed up by the day of their deadlines.
+ * Each model has its own WorkloadTimeline, which follows the changes published by its module book.
+ * Only the days on which some workload is due are kept, in order, so memory grows with the number of such days
+ * rather than with how far apart the deadlines are. Their sums are kept in a Fenwick tree, so that changing the
+ * workload of such a day and finding the total workload due in a range of days both take O(log d) time, where d is
+ * the number of days kept. Adding the first workload due on a day, or removing the last, takes O(d) time.
+ */
+public class WorkloadTimeline {
+
+    // Epoch days on which some workload is due, in increasing order
+    private long[] days = new long[0];
+    // Workload due on each of those days
+    private long[] dailyWorkloads = new long[0];
+    // Fenwick tree over dailyWorkloads, indexed from 1
+    private long[] tree = new long[1];
+
+    /**
+     * Adds the workload of {@code task} to the day of its deadline, unless it is done.
+     */
+    public void addTask(Task task) {
+        requireNonNull(task);
+        updateWorkload(task, 1);
+    }
+
+    /**
+     * Removes the workload of {@code task} from the day of its deadline, unless it is done.
+     */
+    public void removeTask(Task task) {
+        requireNonNull(task);
+        updateWorkload(task, -1);
+    }
+
+    /**
+     * Removes the workload of all tasks.
+     */
+    public void clear() {
+        days = new long[0];
+        dailyWorkloads = new long[0];
+        tree = new long[1];
+    }
+
+    /**
+     * Returns a new subscriber that keeps this timeline up to date with the changes published by {@code moduleBook}.
+     */
+    public Flow.Subscriber<ModuleBookChange> newTimelineSubscriber(ModuleBook moduleBook) {
+        return new ModuleBookSubscriber("workload timeline", moduleBook, this::applyChange, this::rebuild);
+    }
+
+    /**
+     * Replaces the tasks in this timeline with {@code tasks}, in O(n log n) time for n tasks.
+     */
+    public void rebuild(List<Task> tasks) {
+        requireNonNull(tasks);
+        TreeMap<Long, Long> workloadsByDay = new TreeMap<>();
+        for (Task task : tasks) {
+            if (!task.getDoneStatus().getIsDone()) {
+                workloadsByDay.merge(task.getDeadline().getEpochDay(),
+                        (long) task.getWorkload().getWorkloadLevel(), Long::sum);
+            }
+        }
+        days = new long[workloadsByDay.size()];
+        dailyWorkloads = new long[workloadsByDay.size()];
+        int slot = 0;
+        for (Map.Entry<Long, Long> entry : workloadsByDay.entrySet()) {
+            days[slot] = entry.getKey();
+            dailyWorkloads[slot] = entry.getValue();
+            slot++;
+        }
+        rebuildTree();
+    }
+
+    /**
+     * Updates this timeline with {@code change}.
+     */
+    void applyChange(ModuleBookChange change) {
+        if (change.getType() == ModuleBookChange.Type.RESET) {
+            rebuild(change.getAddedTasks());
+            return;
+        }
+        change.getRemovedTasks().forEach(this::removeTask);
+        change.getAddedTasks().forEach(this::addTask);
+    }
+
+    private void updateWorkload(Task task, int sign) {
+        if (task.getDoneStatus().getIsDone()) {
+            return;
+        }
+        long day = task.getDeadline().getEpochDay();
+        long delta = sign * (long) task.getWorkload().getWorkloadLevel();
+        int slot = Arrays.binarySearch(days, day);
+        if (slot < 0) {
+            insertDay(-slot - 1, day, delta);
+        } else if (dailyWorkloads[slot] + delta == 0) {
+            removeDay(slot);
+        } else {
+            dailyWorkloads[slot] += delta;
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the total workload due from {@code from} to {@code to}, both inclusive.
+     */
+    public long getWorkloadBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        int firstSlot = slotFrom(from.toEpochDay());
+        int endSlot = slotFrom(to.toEpochDay() + 1);
+        if (firstSlot >= endSlot) {
+            return 0;
+        }
+        return prefixSum(endSlot - 1) - prefixSum(firstSlot - 1);
+    }
+
+    /**
+     * Returns the first day of the week, starting on Monday, with the most workload due from {@code from} to
+     * {@code to}, counting only the days of each week within that range.
+     * Returns an empty Optional if no workload is due in the range. Ties go to the earliest week.
+     */
+    public Optional<LocalDate> getBusiestWeekBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        LocalDate busiestWeek = null;
+        long busiestWorkload = 0;
+        int endSlot = slotFrom(to.toEpochDay() + 1);
+        for (int slot = slotFrom(from.toEpochDay()); slot < endSlot;) {
+            long weekStart = mondayOf(days[slot]);
+            long workload = 0;
+            for (; slot < endSlot && mondayOf(days[slot]) == weekStart; slot++) {
+                workload += dailyWorkloads[slot];
+            }
+            if (workload > busiestWorkload) {
+                busiestWeek = LocalDate.ofEpochDay(weekStart);
+                busiestWorkload = workload;
+            }
+        }
+        return Optional.ofNullable(busiestWeek);
+    }
+
+    /**
+     * Returns the epoch day of the Monday on or before the epoch day {@code day}.
+     */
+    private static long mondayOf(long day) {
+        // Epoch day 0 is a Thursday, 3 days after a Monday
+        return day - Math.floorMod(day + 3, 7);
+    }
+
+    /**
+     * Returns the first slot whose day is {@code day} or after, which is the number of slots if there is none.
+     */
+    private int slotFrom(long day) {
+        int slot = Arrays.binarySearch(days, day);
+        return slot >= 0 ? slot : -slot - 1;
+    }
+
+    /**
+     * Returns the total workload due on the days kept up to the one at {@code slot}, inclusive.
+     */
+    private long prefixSum(int slot) {
+        long sum = 0;
+        for (int i = slot + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Keeps {@code day}, on which {@code workload} is due, at {@code slot}.
+     */
+    private void insertDay(int slot, long day, long workload) {
+        long[] newDays = new long[days.length + 1];
+        long[] newDailyWorkloads = new long[days.length + 1];
+        System.arraycopy(days, 0, newDays, 0, slot);
+        System.arraycopy(dailyWorkloads, 0, newDailyWorkloads, 0, slot);
+        newDays[slot] = day;
+        newDailyWorkloads[slot] = workload;
+        System.arraycopy(days, slot, newDays, slot + 1, days.length - slot);
+        System.arraycopy(dailyWorkloads, slot, newDailyWorkloads, slot + 1, days.length - slot);
+        days = newDays;
+        dailyWorkloads = newDailyWorkloads;
+        rebuildTree();
+    }
+
+    /**
+     * Stops keeping the day at {@code slot}, on which no more workload is due.
+     */
+    private void removeDay(int slot) {
+        long[] newDays = new long[days.length - 1];
+        long[] newDailyWorkloads = new long[days.length - 1];
+        System.arraycopy(days, 0, newDays, 0, slot);
+        System.arraycopy(dailyWorkloads, 0, newDailyWorkloads, 0, slot);
+        System.arraycopy(days, slot + 1, newDays, slot, days.length - slot - 1);
+        System.arraycopy(dailyWorkloads, slot + 1, newDailyWorkloads, slot, days.length - slot - 1);
+        days = newDays;
+        dailyWorkloads = newDailyWorkloads;
+        rebuildTree();
+    }
+
+    /**
+     * Builds the Fenwick tree from the daily workloads in linear time.
+     */
+    private void rebuildTree() {
+        tree = new long[dailyWorkloads.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += dailyWorkloads[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
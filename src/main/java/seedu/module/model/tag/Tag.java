@@ -3,6 +3,10 @@ package seedu.module.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the module book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +16,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // The canonical Tag of each tag name that is still in use. Entries are dropped once no Tag refers to them.
+    private static final Map<String, WeakReference<Tag>> internedTags = new WeakHashMap<>();
+
     public final String tagName;
     private final String tagNameLowerCase;
 
@@ -27,6 +34,34 @@ public class Tag {
         this.tagNameLowerCase = tagName.toLowerCase();
     }
 
+    /**
+     * Returns the canonical {@code Tag} of {@code tagName}.
+     * Tags whose names differ only in case are equal but are interned separately, so that each keeps its name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        synchronized (internedTags) {
+            WeakReference<Tag> reference = internedTags.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                // Keys are only weakly held, so the key must be the tag's own name for the entry to live with it
+                internedTags.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
+    /**
+     * Returns the name of this Tag in lower case, which is the same for all Tags equal to it.
+     */
+    String getTagNameLowerCase() {
+        return tagNameLowerCase;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,94 @@
+package seedu.module.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives each distinct Tag in use a small code, so that sets of tags can be stored as bitsets.
+ * Tags that are equal, which is when their names differ only in case, share a code.
+ * Codes are kept by tag name rather than by Tag, so the dictionary does not keep any Tag alive. Each code counts
+ * the {@link TagSet}s using it, and is freed once none of them are left, to be given out again to another tag name.
+ * The smallest free code is given out first, so that bitsets stay short.
+ * The same dictionary is shared by all module books, so that a task keeps its codes when it moves between them.
+ * Giving out and freeing codes is synchronized, but looking up the code of a tag takes no lock, so that checking
+ * many tasks for a tag does not contend on the dictionary.
+ */
+public class TagDictionary {
+
+    private static final TagDictionary dictionary = new TagDictionary();
+
+    // Code of each tag name in use, keyed by the name in lower case, which can be read without holding the lock
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    // Lower case tag name of each code in use, null for free codes
+    private String[] names = new String[0];
+    // Number of uses of each code
+    private int[] useCounts = new int[0];
+    // Codes below names.length that are free
+    private final BitSet freeCodes = new BitSet();
+
+    /**
+     * Returns the dictionary shared by all module books.
+     */
+    public static TagDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the code of {@code tag}, giving it a free code if it has none yet, and counts one more use of it.
+     * Each use must be released with {@link #releaseCodes(int[])} once it is over.
+     */
+    synchronized int acquireCode(Tag tag) {
+        requireNonNull(tag);
+        String name = tag.getTagNameLowerCase();
+        Integer code = codes.get(name);
+        if (code == null) {
+            code = freeCodes.isEmpty() ? names.length : freeCodes.nextSetBit(0);
+            if (code == names.length) {
+                names = Arrays.copyOf(names, Math.max(2 * names.length, 1));
+                useCounts = Arrays.copyOf(useCounts, names.length);
+                freeCodes.set(code + 1, names.length);
+            }
+            freeCodes.clear(code);
+            codes.put(name, code);
+            names[code] = name;
+        }
+        useCounts[code]++;
+        return code;
+    }
+
+    /**
+     * Counts one less use of each of {@code releasedCodes}, freeing the codes that are no longer used.
+     */
+    synchronized void releaseCodes(int[] releasedCodes) {
+        for (int code : releasedCodes) {
+            assert useCounts[code] > 0 : "Code " + code + " is not in use";
+            useCounts[code]--;
+            if (useCounts[code] == 0) {
+                codes.remove(names[code]);
+                names[code] = null;
+                freeCodes.set(code);
+            }
+        }
+    }
+
+    /**
+     * Returns the code of {@code tag}, or -1 if it has none.
+     * The code of a tag in a {@link TagSet} cannot change while the set can be reached, so it is safe to look up
+     * without the lock.
+     */
+    public int findCode(Tag tag) {
+        requireNonNull(tag);
+        return codes.getOrDefault(tag.getTagNameLowerCase(), -1);
+    }
+
+    /**
+     * Returns the number of codes in use.
+     */
+    public int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.module.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Cleaner;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of Tags, stored as a bitset of their codes in the {@link TagDictionary}.
+ * As with any other set of Tags, Tags whose names differ only in case are the same element.
+ * Checking whether a Tag is in the set takes O(1) time, and comparing two TagSets or checking whether one has all
+ * or any of the Tags of another takes time proportional to the number of 64-bit words in their bitsets.
+ * Guarantees: immutable; modification throws {@code UnsupportedOperationException}.
+ */
+public class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0], new long[0]);
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // The Tags in the set, in order of their codes
+    private final Tag[] tags;
+    // Bit i is set if the Tag with code i is in the set. The last word is never zero.
+    private final long[] bits;
+
+    private TagSet(Tag[] tags, long[] bits) {
+        this.tags = tags;
+        this.bits = bits;
+    }
+
+    /**
+     * Returns a TagSet with the Tags in {@code tags}.
+     * If several of them are equal, only the first one is kept.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Set<Tag> distinctTags = new LinkedHashSet<>();
+        for (Tag tag : tags) {
+            distinctTags.add(requireNonNull(tag));
+        }
+        TagDictionary dictionary = TagDictionary.getDictionary();
+        Tag[] tagsByCode = new Tag[distinctTags.size()];
+        int[] codes = new int[distinctTags.size()];
+        int i = 0;
+        for (Tag tag : distinctTags) {
+            tagsByCode[i] = tag;
+            codes[i] = dictionary.acquireCode(tag);
+            i++;
+        }
+
+        long[] bits = new long[wordIndex(Arrays.stream(codes).max().getAsInt()) + 1];
+        Tag[] codeOrderTags = new Tag[codes.length];
+        int[] codeOrder = codes.clone();
+        Arrays.sort(codeOrder);
+        for (int j = 0; j < codes.length; j++) {
+            bits[wordIndex(codes[j])] |= 1L << codes[j];
+            codeOrderTags[Arrays.binarySearch(codeOrder, codes[j])] = tagsByCode[j];
+        }
+
+        TagSet tagSet = new TagSet(codeOrderTags, bits);
+        // The codes stay in use for as long as the set can be reached
+        CLEANER.register(tagSet, () -> dictionary.releaseCodes(codes));
+        return tagSet;
+    }
+
+    /**
+     * Returns a TagSet with {@code tags}.
+     */
+    public static TagSet of(Tag... tags) {
+        return of(Arrays.asList(tags));
+    }
+
+    private static int wordIndex(int code) {
+        return code >>> 6;
+    }
+
+    private static boolean isSet(long[] bits, int code) {
+        return code >= 0 && wordIndex(code) < bits.length && (bits[wordIndex(code)] & (1L << code)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && isSet(bits, TagDictionary.getDictionary().findCode((Tag) other));
+    }
+
+    /**
+     * Returns true if this set has all the Tags in {@code other}.
+     */
+    public boolean containsAll(TagSet other) {
+        requireNonNull(other);
+        if (other.bits.length > bits.length) {
+            return false;
+        }
+        for (int i = 0; i < other.bits.length; i++) {
+            if ((other.bits[i] & ~bits[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this set has any of the Tags in {@code other}.
+     */
+    public boolean containsAny(TagSet other) {
+        requireNonNull(other);
+        int words = Math.min(bits.length, other.bits.length);
+        for (int i = 0; i < words; i++) {
+            if ((other.bits[i] & bits[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    /**
+     * Returns an iterator over the Tags in the set, in the order of their codes in the {@link TagDictionary}.
+     */
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(bits, ((TagSet) other).bits);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
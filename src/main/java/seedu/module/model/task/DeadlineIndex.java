@@ -0,0 +1,77 @@
+package seedu.module.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of tasks ordered by their deadlines.
+ * Tasks are tracked by reference, so the exact task objects that were added must be used to remove them.
+ * Supports range queries in O(log n + k) time, where k is the number of tasks returned.
+ */
+public class DeadlineIndex {
+
+    private final NavigableMap<Time, List<Task>> tasksByDeadline = new TreeMap<>();
+    private int size = 0;
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        tasksByDeadline.computeIfAbsent(task.getDeadline(), unused -> new ArrayList<>(1)).add(task);
+        size++;
+    }
+
+    /**
+     * Removes {@code task} from the index. Does nothing if {@code task} is not in the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        List<Task> tasksWithDeadline = tasksByDeadline.get(task.getDeadline());
+        if (tasksWithDeadline == null) {
+            return;
+        }
+        for (int i = 0; i < tasksWithDeadline.size(); i++) {
+            if (tasksWithDeadline.get(i) == task) {
+                tasksWithDeadline.remove(i);
+                size--;
+                break;
+            }
+        }
+        if (tasksWithDeadline.isEmpty()) {
+            tasksByDeadline.remove(task.getDeadline());
+        }
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    public void clear() {
+        tasksByDeadline.clear();
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the tasks with deadlines from {@code from} to {@code to}, both inclusive, ordered by deadline.
+     */
+    public List<Task> getTasksDueBetween(Time from, Time to) {
+        requireAllNonNull(from, to);
+        List<Task> dueTasks = new ArrayList<>();
+        if (from.compareTo(to) > 0) {
+            return dueTasks;
+        }
+        for (List<Task> tasksWithDeadline : tasksByDeadline.subMap(from, true, to, true).values()) {
+            dueTasks.addAll(tasksWithDeadline);
+        }
+        return dueTasks;
+    }
+}
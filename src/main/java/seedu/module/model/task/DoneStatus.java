@@ -6,6 +6,9 @@ import static seedu.module.commons.util.AppUtil.checkArgument;
 public class DoneStatus {
     public static final String MESSAGE_CONSTRAINTS = "Boolean strings should be 'true' or 'false'";
 
+    public static final DoneStatus DONE = new DoneStatus(true);
+    public static final DoneStatus NOT_DONE = new DoneStatus(false);
+
     public final Boolean isDone;
     public final String value;
 
@@ -33,6 +36,24 @@ public class DoneStatus {
         this.value = isDoneString;
     }
 
+    /**
+     * Returns the canonical {@code DoneStatus} of {@code isDone}.
+     */
+    public static DoneStatus of(boolean isDone) {
+        return isDone ? DONE : NOT_DONE;
+    }
+
+    /**
+     * Returns the canonical {@code DoneStatus} of {@code isDoneString}.
+     *
+     * @param isDoneString A valid String that is either true or false.
+     */
+    public static DoneStatus of(String isDoneString) {
+        requireNonNull(isDoneString);
+        checkArgument(isValidBooleanString(isDoneString), MESSAGE_CONSTRAINTS);
+        return of(parseBooleanString(isDoneString).booleanValue());
+    }
+
     /**
      * Returns true if task is done, false otherwise.
      */
@@ -3,14 +3,10 @@ package seedu.module.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.AppUtil.checkArgument;
 
-import java.util.List;
-
-import seedu.module.model.ModuleManager;
-
-
 /**
  * Represents a Module in the module book.
  * Guarantees: immutable; is valid as declared in {@link #isValidModuleFormat(String)}
+ * Use {@link #of(String)} to get the canonical instance of a Module from the {@code ModuleCatalog}.
  */
 public class Module implements Comparable<Module> {
 
@@ -37,12 +33,31 @@ public class Module implements Comparable<Module> {
      * @param module A valid module description.
      */
     public Module(String module) {
+        this(module, ModuleCatalog.getCatalog());
+    }
+
+    /**
+     * Constructs a {@code Module} that is supported by {@code catalog}.
+     */
+    Module(String module, ModuleCatalog catalog) {
         requireNonNull(module);
         checkArgument(isValidModuleFormat(module), MESSAGE_CONSTRAINTS);
-        checkArgument(isSupportedModuleCode(module), MESSAGE_MODULE_NOT_SUPPORTED);
+        checkArgument(catalog.contains(module), MESSAGE_MODULE_NOT_SUPPORTED);
         value = module;
     }
 
+    /**
+     * Returns the canonical {@code Module} of {@code module}, which is shared by all uses of the module code.
+     *
+     * @param module A valid module description.
+     */
+    public static Module of(String module) {
+        requireNonNull(module);
+        checkArgument(isValidModuleFormat(module), MESSAGE_CONSTRAINTS);
+        return ModuleCatalog.getCatalog().getModule(module)
+                .orElseThrow(() -> new IllegalArgumentException(MESSAGE_MODULE_NOT_SUPPORTED));
+    }
+
     /**
      * Returns if a given string is a valid module that matches the format.
      */
@@ -55,9 +70,7 @@ public class Module implements Comparable<Module> {
      * Returns if a given string is a module which is supported by ModuleBook.
      */
     public static boolean isSupportedModuleCode(String test) {
-        ModuleManager.initSupportedModulesInStr();
-        List<String> existingModules = ModuleManager.getListOfSupportingModules();
-        return existingModules.contains(test);
+        return ModuleCatalog.getCatalog().contains(test);
     }
 
     @Override
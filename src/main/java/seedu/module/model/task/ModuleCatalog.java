@@ -0,0 +1,240 @@
+package seedu.module.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import seedu.module.commons.core.LogsCenter;
+
+/**
+ * The Modules supported by ModuleBook, loaded from a data file with one module code per line.
+ * Supports checking whether a module code is supported in O(1) time, and finding the module codes that start with
+ * a prefix in time proportional to the length of the prefix and the number of codes found.
+ * Each supported module code has one canonical {@code Module}, and an ordinal that is its position among the
+ * supported module codes in lexicographic order.
+ * Guarantees: immutable.
+ */
+public class ModuleCatalog {
+
+    public static final String BUNDLED_CATALOG_RESOURCE = "/catalog/modules.txt";
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleCatalog.class);
+    private static final String COMMENT_PREFIX = "#";
+    // Module codes only contain digits and capital letters
+    private static final int ALPHABET_SIZE = 10 + 26;
+
+    private static volatile ModuleCatalog catalog;
+
+    private final Module[] modules;
+    private final Map<String, Integer> ordinals;
+    private final TrieNode trieRoot = new TrieNode();
+
+    /**
+     * Creates a catalog of the module codes in {@code moduleCodes}, which must all be valid module codes.
+     */
+    private ModuleCatalog(Collection<String> moduleCodes) {
+        List<String> sortedCodes = new ArrayList<>(new TreeSet<>(moduleCodes));
+        ordinals = new HashMap<>(sortedCodes.size() * 2);
+        modules = new Module[sortedCodes.size()];
+        for (int i = 0; i < sortedCodes.size(); i++) {
+            ordinals.put(sortedCodes.get(i), i);
+        }
+        for (int i = 0; i < sortedCodes.size(); i++) {
+            modules[i] = new Module(sortedCodes.get(i), this);
+            insertIntoTrie(sortedCodes.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the catalog in use, which is the bundled catalog unless another catalog has been set.
+     */
+    public static ModuleCatalog getCatalog() {
+        if (catalog == null) {
+            catalog = ofBundledCatalog();
+        }
+        return catalog;
+    }
+
+    /**
+     * Uses {@code newCatalog} as the catalog of supported Modules from now on.
+     * This should only be done at startup, before any Module is created.
+     */
+    public static void setCatalog(ModuleCatalog newCatalog) {
+        requireNonNull(newCatalog);
+        catalog = newCatalog;
+    }
+
+    /**
+     * Returns a catalog of the module codes in {@code moduleCodes}.
+     * Codes that are not valid module codes are left out.
+     */
+    public static ModuleCatalog of(Collection<String> moduleCodes) {
+        requireNonNull(moduleCodes);
+        List<String> validCodes = new ArrayList<>(moduleCodes.size());
+        for (String moduleCode : moduleCodes) {
+            if (Module.isValidModuleFormat(moduleCode)) {
+                validCodes.add(moduleCode);
+            } else {
+                logger.warning("Ignoring invalid module code in catalog: " + moduleCode);
+            }
+        }
+        return new ModuleCatalog(validCodes);
+    }
+
+    /**
+     * Returns the catalog of module codes bundled with ModuleBook.
+     */
+    public static ModuleCatalog ofBundledCatalog() {
+        InputStream inputStream = ModuleCatalog.class.getResourceAsStream(BUNDLED_CATALOG_RESOURCE);
+        assert inputStream != null : "The bundled module catalog is missing";
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return of(readModuleCodes(reader));
+        } catch (IOException e) {
+            throw new AssertionError("The bundled module catalog cannot be read", e);
+        }
+    }
+
+    /**
+     * Returns a catalog of the module codes in the file at {@code filePath} together with those in this catalog.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public ModuleCatalog withModuleCodesFrom(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        List<String> moduleCodes;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            moduleCodes = readModuleCodes(reader);
+        }
+        for (Module module : modules) {
+            moduleCodes.add(module.value);
+        }
+        return of(moduleCodes);
+    }
+
+    /**
+     * Returns the module codes in {@code reader}, one per line, skipping blank lines and comments.
+     */
+    private static List<String> readModuleCodes(BufferedReader reader) throws IOException {
+        List<String> moduleCodes = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String moduleCode = line.trim();
+            if (!moduleCode.isEmpty() && !moduleCode.startsWith(COMMENT_PREFIX)) {
+                moduleCodes.add(moduleCode);
+            }
+        }
+        return moduleCodes;
+    }
+
+    /**
+     * Returns true if {@code moduleCode} is a supported module code.
+     */
+    public boolean contains(String moduleCode) {
+        requireNonNull(moduleCode);
+        return ordinals.containsKey(moduleCode);
+    }
+
+    /**
+     * Returns the canonical {@code Module} of {@code moduleCode}, if it is a supported module code.
+     */
+    public Optional<Module> getModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        Integer ordinal = ordinals.get(moduleCode);
+        return ordinal == null ? Optional.empty() : Optional.of(modules[ordinal]);
+    }
+
+    /**
+     * Returns the ordinal of {@code module}, or -1 if it is not supported.
+     */
+    public int ordinalOf(Module module) {
+        requireNonNull(module);
+        return ordinals.getOrDefault(module.value, -1);
+    }
+
+    /**
+     * Returns the number of supported Modules.
+     */
+    public int size() {
+        return modules.length;
+    }
+
+    /**
+     * Returns the supported Modules whose codes start with {@code prefix}, ignoring case, in lexicographic order.
+     */
+    public List<Module> getModulesWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        TrieNode node = trieRoot;
+        for (char c : prefix.toUpperCase().toCharArray()) {
+            int childIndex = childIndexOf(c);
+            if (childIndex < 0 || node.children[childIndex] == null) {
+                return new ArrayList<>();
+            }
+            node = node.children[childIndex];
+        }
+        List<Module> modulesWithPrefix = new ArrayList<>();
+        collectModules(node, modulesWithPrefix);
+        return modulesWithPrefix;
+    }
+
+    private void insertIntoTrie(String moduleCode, int ordinal) {
+        TrieNode node = trieRoot;
+        for (char c : moduleCode.toCharArray()) {
+            int childIndex = childIndexOf(c);
+            assert childIndex >= 0 : "Module codes only contain digits and capital letters";
+            if (node.children[childIndex] == null) {
+                node.children[childIndex] = new TrieNode();
+            }
+            node = node.children[childIndex];
+        }
+        node.ordinal = ordinal;
+    }
+
+    /**
+     * Adds the Modules of {@code node} and its descendants to {@code result}, in lexicographic order.
+     */
+    private void collectModules(TrieNode node, List<Module> result) {
+        if (node.ordinal >= 0) {
+            result.add(modules[node.ordinal]);
+        }
+        for (TrieNode child : node.children) {
+            if (child != null) {
+                collectModules(child, result);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the child for {@code c}, in which digits come before capital letters as they do in
+     * lexicographic order, or -1 if {@code c} cannot appear in a module code.
+     */
+    private static int childIndexOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'A' && c <= 'Z') {
+            return 10 + (c - 'A');
+        }
+        return -1;
+    }
+
+    /**
+     * A node of the prefix trie of module codes.
+     */
+    private static class TrieNode {
+        private final TrieNode[] children = new TrieNode[ALPHABET_SIZE];
+        private int ordinal = -1;
+    }
+}
@@ -20,6 +20,9 @@ public class Name implements Comparable<Name> {
 
     public final String fullName;
 
+    // The name in lower case, computed once so that sorting by name does not convert names on every comparison
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +32,7 @@ public class Name implements Comparable<Name> {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = name.toLowerCase();
     }
 
     /**
@@ -58,6 +62,6 @@ public class Name implements Comparable<Name> {
 
     @Override
     public int compareTo(Name o) {
-        return this.fullName.toLowerCase().compareTo(o.fullName.toLowerCase());
+        return this.sortKey.compareTo(o.sortKey);
     }
 }
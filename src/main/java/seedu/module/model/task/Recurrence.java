@@ -7,6 +7,9 @@ import java.util.Objects;
 
 public class Recurrence {
     public static final String MESSAGE_CONSTRAINTS = "recurrence can only be daily, weekly or biweekly.";
+    // The canonical Recurrence of each RecurrenceType, indexed by ordinal
+    private static final Recurrence[] RECURRENCES = createRecurrences();
+
     public final String value;
     private final RecurrenceType recurrenceType;
 
@@ -23,6 +26,25 @@ public class Recurrence {
         value = recurrenceString.toLowerCase();
     }
 
+    private static Recurrence[] createRecurrences() {
+        RecurrenceType[] recurrenceTypes = RecurrenceType.values();
+        Recurrence[] recurrences = new Recurrence[recurrenceTypes.length];
+        for (RecurrenceType recurrenceType : recurrenceTypes) {
+            recurrences[recurrenceType.ordinal()] = new Recurrence(recurrenceType.name());
+        }
+        return recurrences;
+    }
+
+    /**
+     * Returns the canonical {@code Recurrence} of {@code recurrenceString}, ignoring case and surrounding spaces.
+     *
+     * @throws IllegalArgumentException if {@code recurrenceString} is not a valid recurrence.
+     */
+    public static Recurrence of(String recurrenceString) {
+        checkArgument(isValidRecurrence(recurrenceString), MESSAGE_CONSTRAINTS);
+        return RECURRENCES[RecurrenceType.valueOf(recurrenceString.toLowerCase().trim()).ordinal()];
+    }
+
     /**
      * Checks if recurrence is daily, weekly or biweekly.
      *
@@ -0,0 +1,312 @@
+package seedu.module.model.task;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list of tasks, sorted by a comparator without reordering the list itself.
+ * Tasks that the comparator ranks the same keep their order in the list. Without a comparator, the view has the
+ * same order as the list.
+ *
+ * Changing the comparator sorts the whole view at once and publishes the new order as a single permutation.
+ * The view is sorted with {@link Arrays#parallelSort}, which splits the work across the threads of the common
+ * fork-join pool once the view is large enough for that to pay off, and sorts on the calling thread otherwise.
+ *
+ * A task added or edited afterwards is placed in the view with a binary search, and the view position of each task
+ * is kept by list index, so that it can be found without a scan. Several tasks added at once are sorted and then
+ * merged into the view in one pass.
+ */
+public class SortedTaskList extends TransformationList<Task, Task> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Comparator<Task> comparator;
+    // The tasks in view order, each with its index in the list
+    private Entry[] entries;
+    // The view index of each task, by its index in the list
+    private int[] viewIndexes;
+    private int size;
+
+    /**
+     * Creates an unsorted view of {@code source}.
+     */
+    public SortedTaskList(ObservableList<Task> source) {
+        super(source);
+        size = source.size();
+        entries = new Entry[Math.max(size, INITIAL_CAPACITY)];
+        viewIndexes = new int[entries.length];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(source.get(i), i);
+            viewIndexes[i] = i;
+        }
+    }
+
+    public Comparator<Task> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or restores the order of the list if it is null.
+     */
+    public void setComparator(Comparator<Task> comparator) {
+        this.comparator = comparator;
+        sortWithPermutation();
+    }
+
+    @Override
+    public Task get(int index) {
+        Objects.checkIndex(index, size);
+        return entries[index].task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return entries[index].sourceIndex;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, getSource().size());
+        return viewIndexes[index];
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                updateInView(change.getFrom(), change.getTo());
+            } else {
+                if (change.wasRemoved()) {
+                    removeFromView(change.getFrom(), change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    addToView(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Follows the tasks moved within the list, then sorts the view again, as ties are ordered by list index.
+     */
+    private void permute(ListChangeListener.Change<? extends Task> change) {
+        for (int i = 0; i < size; i++) {
+            int sourceIndex = entries[i].sourceIndex;
+            if (sourceIndex >= change.getFrom() && sourceIndex < change.getTo()) {
+                entries[i].sourceIndex = change.getPermutation(sourceIndex);
+            }
+        }
+        sortWithPermutation();
+    }
+
+    /**
+     * Moves the tasks at list indexes {@code from} to {@code to}, exclusive, to where they now belong.
+     */
+    private void updateInView(int from, int to) {
+        for (int sourceIndex = from; sourceIndex < to; sourceIndex++) {
+            int viewIndex = viewIndexes[sourceIndex];
+            Entry entry = entries[viewIndex];
+            System.arraycopy(entries, viewIndex + 1, entries, viewIndex, size - viewIndex - 1);
+            size--;
+            Task oldTask = entry.task;
+            entry.task = getSource().get(sourceIndex);
+            int newViewIndex = findInsertionPoint(entry);
+            System.arraycopy(entries, newViewIndex, entries, newViewIndex + 1, size - newViewIndex);
+            entries[newViewIndex] = entry;
+            size++;
+            updateViewIndexes(Math.min(viewIndex, newViewIndex), Math.max(viewIndex, newViewIndex) + 1);
+            if (newViewIndex == viewIndex) {
+                nextUpdate(viewIndex);
+            } else {
+                nextRemove(viewIndex, oldTask);
+                nextAdd(newViewIndex, newViewIndex + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the {@code count} tasks that were at list index {@code from} onwards.
+     */
+    private void removeFromView(int from, int count) {
+        int end = from + count;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[i];
+            if (entry.sourceIndex >= from && entry.sourceIndex < end) {
+                nextRemove(kept, entry.task);
+                continue;
+            }
+            if (entry.sourceIndex >= end) {
+                entry.sourceIndex -= count;
+            }
+            viewIndexes[entry.sourceIndex] = kept;
+            entries[kept++] = entry;
+        }
+        Arrays.fill(entries, kept, size, null);
+        size = kept;
+    }
+
+    /**
+     * Places the tasks now at list indexes {@code from} to {@code to}, exclusive, into the view.
+     * A single task is inserted where a binary search places it. Several tasks are sorted and then merged into the
+     * view from its end, so that each task already in the view is moved at most once.
+     */
+    private void addToView(int from, int to) {
+        int count = to - from;
+        for (int i = 0; i < size; i++) {
+            if (entries[i].sourceIndex >= from) {
+                entries[i].sourceIndex += count;
+            }
+        }
+        ensureCapacity(size + count);
+
+        if (count == 1) {
+            Entry entry = new Entry(getSource().get(from), from);
+            int viewIndex = findInsertionPoint(entry);
+            System.arraycopy(entries, viewIndex, entries, viewIndex + 1, size - viewIndex);
+            entries[viewIndex] = entry;
+            size++;
+            updateViewIndexes(0, size);
+            nextAdd(viewIndex, viewIndex + 1);
+            return;
+        }
+
+        Entry[] added = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            added[i] = new Entry(getSource().get(from + i), from + i);
+        }
+        sortEntries(added, count);
+
+        // View indexes of the added tasks, from the last one
+        int[] addedViewIndexes = new int[count];
+        Comparator<Entry> order = entryOrder();
+        int i = size - 1;
+        int j = count - 1;
+        for (int k = size + count - 1; j >= 0; k--) {
+            if (i < 0 || order.compare(added[j], entries[i]) >= 0) {
+                entries[k] = added[j];
+                addedViewIndexes[count - 1 - j] = k;
+                j--;
+            } else {
+                entries[k] = entries[i--];
+            }
+        }
+        size += count;
+        updateViewIndexes(0, size);
+        for (int k = count - 1; k >= 0; k--) {
+            nextAdd(addedViewIndexes[k], addedViewIndexes[k] + 1);
+        }
+    }
+
+    /**
+     * Makes room for at least {@code capacity} tasks in the view.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(capacity, 2 * entries.length));
+        }
+        if (capacity > viewIndexes.length) {
+            viewIndexes = Arrays.copyOf(viewIndexes, entries.length);
+        }
+    }
+
+    /**
+     * Records the view indexes of the tasks from view index {@code from} to {@code to}, exclusive.
+     */
+    private void updateViewIndexes(int from, int to) {
+        for (int i = from; i < to; i++) {
+            viewIndexes[entries[i].sourceIndex] = i;
+        }
+    }
+
+    /**
+     * Sorts the whole view and publishes the new order as one permutation, if the order changed.
+     */
+    private void sortWithPermutation() {
+        for (int i = 0; i < size; i++) {
+            entries[i].viewIndex = i;
+        }
+        sortEntries(entries, size);
+        updateViewIndexes(0, size);
+
+        int[] permutation = new int[size];
+        boolean isReordered = false;
+        for (int i = 0; i < size; i++) {
+            permutation[entries[i].viewIndex] = i;
+            isReordered |= entries[i].viewIndex != i;
+        }
+        if (isReordered) {
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Sorts the first {@code length} entries of {@code toSort}, in parallel if there are enough of them.
+     */
+    private void sortEntries(Entry[] toSort, int length) {
+        Arrays.parallelSort(toSort, 0, length, entryOrder());
+    }
+
+    /**
+     * Returns the view index at which {@code entry} belongs, among the entries currently in the view.
+     */
+    private int findInsertionPoint(Entry entry) {
+        Comparator<Entry> order = entryOrder();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(entries[mid], entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the order of the view, which breaks the ties of the comparator by list index.
+     */
+    private Comparator<Entry> entryOrder() {
+        Comparator<Entry> bySourceIndex = Comparator.comparingInt(entry -> entry.sourceIndex);
+        if (comparator == null) {
+            return bySourceIndex;
+        }
+        Comparator<Task> taskOrder = comparator;
+        return ((Comparator<Entry>) (first, second) -> taskOrder.compare(first.task, second.task))
+                .thenComparing(bySourceIndex);
+    }
+
+    /**
+     * A task in the view, with its index in the list.
+     */
+    private static class Entry {
+        private Task task;
+        private int sourceIndex;
+        // View index before the last sort
+        private int viewIndex;
+
+        private Entry(Task task, int sourceIndex) {
+            this.task = task;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package seedu.module.model.task;
 
+import static seedu.module.commons.util.AppUtil.checkArgument;
 import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.module.model.task.Recurrence.isValidRecurrence;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import seedu.module.commons.core.optionalfield.OptionalField;
 import seedu.module.model.tag.Tag;
+import seedu.module.model.tag.TagSet;
 
 /**
  * Represents a Task in the module book.
@@ -20,6 +22,12 @@ import seedu.module.model.tag.Tag;
 public class Task {
 
     public static final String INVALID_START_TIME = "Start time have to be earlier than end time";
+    public static final String MESSAGE_ID_CONSTRAINTS = "Task IDs should be non-negative integers";
+
+    private static final AtomicLong nextId = new AtomicLong();
+
+    // Stable id, carried over when the task is edited and not part of equality
+    private final long id;
 
     // Identity fields
     private final Name name;
@@ -32,14 +40,31 @@ public class Task {
     private final Workload workload;
     private final DoneStatus doneStatus;
     private final OptionalField<Recurrence> recurrence;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    // Fingerprint of the fields compared by equals, computed once as tasks are immutable
+    private final long fingerprint;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The task is given a new id.
      */
     public Task(Name name, OptionalField<Time> startTime, Time deadline, Module module, Description description,
                 Workload workload, DoneStatus doneStatus, OptionalField<Recurrence> recurrence, Set<Tag> tags) {
+        this(nextId.getAndIncrement(), name, startTime, deadline, module, description, workload, doneStatus,
+                recurrence, tags);
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be a valid id.
+     * Ids given to tasks created afterwards will not clash with {@code id}.
+     */
+    public Task(long id, Name name, OptionalField<Time> startTime, Time deadline, Module module,
+                Description description, Workload workload, DoneStatus doneStatus,
+                OptionalField<Recurrence> recurrence, Set<Tag> tags) {
         requireAllNonNull(name, deadline, module, description, workload, doneStatus, tags);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        nextId.updateAndGet(current -> Math.max(current, id + 1));
+        this.id = id;
         this.name = name;
         this.startTime = startTime;
         this.deadline = deadline;
@@ -48,7 +73,8 @@ public class Task {
         this.workload = workload;
         this.doneStatus = doneStatus;
         this.recurrence = recurrence;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        this.fingerprint = computeFingerprint();
     }
 
     /**
@@ -58,8 +84,8 @@ public class Task {
      * @return an edited task object.
      */
     public static Task setDoneStatus(Task task, DoneStatus status) {
-        return new Task(task.name, task.startTime, task.deadline, task.module, task.description, task.workload,
-                status, task.recurrence, task.tags);
+        return new Task(task.id, task.name, task.startTime, task.deadline, task.module, task.description,
+                task.workload, status, task.recurrence, task.tags);
     }
 
     /**
@@ -69,8 +95,8 @@ public class Task {
      * @return an edited task object.
      */
     public static Task setTags(Task task, Set<Tag> tags) {
-        return new Task(task.name, task.startTime, task.deadline, task.module, task.description, task.workload,
-                task.doneStatus, task.recurrence, tags);
+        return new Task(task.id, task.name, task.startTime, task.deadline, task.module, task.description,
+                task.workload, task.doneStatus, task.recurrence, tags);
     }
 
     /**
@@ -80,8 +106,8 @@ public class Task {
      * @return an edited task object.
      */
     public static Task makeNextRecurringTask(Task task, OptionalField<Recurrence> recurrence) {
-        return new Task(task.name, task.startTime, task.deadline, task.module, task.description, task.workload,
-                task.doneStatus, recurrence, task.tags);
+        return new Task(task.id, task.name, task.startTime, task.deadline, task.module, task.description,
+                task.workload, task.doneStatus, recurrence, task.tags);
     }
 
     /**
@@ -100,12 +126,23 @@ public class Task {
         isUnchanged = newDeadline.equals(task.getDeadline());
 
         if (!isUnchanged) {
-            defaultDoneStatus = new DoneStatus(false);
+            defaultDoneStatus = DoneStatus.NOT_DONE;
             newStartTime = getRecurringTime(task, task.getStartTimeWrapper());
         }
 
-        return new Task(task.name, newStartTime, newDeadline, task.module, task.description, task.workload,
-                defaultDoneStatus, task.recurrence, task.tags);
+        return new Task(task.id, task.name, newStartTime, newDeadline, task.module, task.description,
+                task.workload, defaultDoneStatus, task.recurrence, task.tags);
+    }
+
+    /**
+     * Returns true if {@code id} can be used as the id of a task.
+     */
+    public static boolean isValidId(long id) {
+        return id >= 0 && id < Long.MAX_VALUE;
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -169,11 +206,45 @@ public class Task {
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns the tags of this task as a {@code TagSet}, a bitset of their codes in the {@code TagDictionary}.
+     * The set is immutable, and throws {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public TagSet getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns true if the task has {@code tag}, ignoring case.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of the fields of this task compared by {@link #equals(Object)}.
+     * Equal tasks have the same fingerprint, so tasks with different fingerprints are known to differ without
+     * comparing their fields. The id of the task is not part of its fingerprint.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    private long computeFingerprint() {
+        long hash = 17;
+        hash = 31 * hash + name.hashCode();
+        hash = 31 * hash + startTime.hashCode();
+        hash = 31 * hash + deadline.getEpochMinute();
+        hash = 31 * hash + Boolean.hashCode(deadline.hasHoursMinutes());
+        hash = 31 * hash + module.hashCode();
+        hash = 31 * hash + description.hashCode();
+        hash = 31 * hash + workload.hashCode();
+        hash = 31 * hash + doneStatus.hashCode();
+        hash = 31 * hash + recurrence.hashCode();
+        hash = 31 * hash + tags.hashCode();
+        // Spreads the bits of the hash over all 64 bits, as in the finalizer of SplitMix64
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
     }
 
     /**
@@ -209,7 +280,6 @@ public class Task {
     public static Time getRecurringTime(Task task, Time oldTime) {
         assert(oldTime != null && task.isRecurring());
 
-        String nextRecurringTimeStr = oldTime.value;
         Time currTime = Time.makeTimeObject(LocalDateTime.now());
         Recurrence taskRecurrence = task.getRecurrence();
 
@@ -217,22 +287,17 @@ public class Task {
             switch (taskRecurrence.getRecurrenceType()) {
             case daily:
                 //change date to day + 1
-                nextRecurringTimeStr = Time.makeNextTimeString(oldTime, 1);
-
-                break;
+                return oldTime.plusDays(1);
             case weekly:
                 //change date to day + 7
-                nextRecurringTimeStr = Time.makeNextTimeString(oldTime, 7);
-
-                break;
+                return oldTime.plusDays(7);
             case biweekly:
                 //change date to day + 14
-                nextRecurringTimeStr = Time.makeNextTimeString(oldTime, 14);
-                break;
+                return oldTime.plusDays(14);
             default:
-                 assert isValidRecurrence(taskRecurrence.value);
+                assert isValidRecurrence(taskRecurrence.value);
+                return oldTime;
             }
-            return new Time(nextRecurringTimeStr);
         } else {
             //deadline is still valid
             return oldTime;
@@ -271,6 +336,9 @@ public class Task {
         }
 
         Task otherTask = (Task) other;
+        if (otherTask.fingerprint != fingerprint) {
+            return false;
+        }
 
         return otherTask.getName().equals(getName())
                 && otherTask.getStartTimeWrapper().equals(getStartTimeWrapper())
@@ -285,7 +353,7 @@ public class Task {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, startTime, deadline, module, description, workload, doneStatus, recurrence, tags);
+        return Long.hashCode(fingerprint);
     }
 
     @Override
@@ -427,4 +495,41 @@ public class Task {
             return t2.getTags().size() - t1.getTags().size();
         }
     }
+
+    /**
+     * Comparator of tasks using several factors in order, where each factor only breaks the ties left by the
+     * factors before it.
+     */
+    public static class MultiFactorComparator implements Comparator<Task> {
+        private final List<Comparator<Task>> factors;
+
+        /**
+         * Creates a comparator that compares tasks by {@code factors} in order. {@code factors} must not be empty.
+         */
+        public MultiFactorComparator(List<Comparator<Task>> factors) {
+            requireAllNonNull(factors);
+            checkArgument(!factors.isEmpty());
+            this.factors = List.copyOf(factors);
+        }
+
+        public List<Comparator<Task>> getFactors() {
+            return factors;
+        }
+
+        @Override
+        public String toString() {
+            return factors.stream().map(Object::toString).collect(Collectors.joining(", then "));
+        }
+
+        @Override
+        public int compare(Task t1, Task t2) {
+            for (Comparator<Task> factor : factors) {
+                int result = factor.compare(t1, t2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
 }
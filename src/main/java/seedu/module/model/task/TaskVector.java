@@ -0,0 +1,247 @@
+package seedu.module.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list of tasks kept in chunks of at most {@link #CHUNK_SIZE} tasks, whose contents can be frozen into an
+ * immutable snapshot in constant time.
+ * A snapshot shares its chunks with the vector. The vector copies a chunk, and the array of chunks, the first time
+ * it changes them after a snapshot is taken, so each change copies O(n / CHUNK_SIZE + CHUNK_SIZE) references
+ * instead of all n tasks.
+ */
+class TaskVector {
+
+    static final int CHUNK_SIZE = 64;
+
+    private Task[][] chunks = new Task[0][];
+    // Index after the last task of each chunk, counting the tasks of all chunks before it
+    private int[] ends = new int[0];
+    // Generation in which each chunk was created or copied, as chunks of older generations may be in a snapshot
+    private long[] chunkGenerations = new long[0];
+    private int chunkCount;
+    // Whether chunks and ends are in a snapshot, so that they must be copied before they are changed
+    private boolean isSpineShared;
+    private long generation;
+    // Snapshot of the current contents, null if the vector has changed since the last snapshot
+    private List<Task> snapshot;
+
+    public int size() {
+        return chunkCount == 0 ? 0 : ends[chunkCount - 1];
+    }
+
+    /**
+     * Replaces the tasks in this vector with {@code tasks}.
+     */
+    public void setAll(List<Task> tasks) {
+        requireNonNull(tasks);
+        int newChunkCount = (tasks.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new Task[newChunkCount][];
+        ends = new int[newChunkCount];
+        chunkGenerations = new long[newChunkCount];
+        for (int c = 0; c < newChunkCount; c++) {
+            int start = c * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, tasks.size());
+            chunks[c] = new Task[CHUNK_SIZE];
+            for (int i = start; i < end; i++) {
+                chunks[c][i - start] = tasks.get(i);
+            }
+            ends[c] = end;
+            chunkGenerations[c] = generation;
+        }
+        chunkCount = newChunkCount;
+        isSpineShared = false;
+        snapshot = null;
+    }
+
+    /**
+     * Replaces the task at {@code index} with {@code task}.
+     */
+    public void set(int index, Task task) {
+        Objects.checkIndex(index, size());
+        int c = chunkOf(index);
+        ownChunk(c);
+        chunks[c][index - startOf(c)] = task;
+        snapshot = null;
+    }
+
+    /**
+     * Adds {@code task} at {@code index}, moving the tasks from that index onwards back by one.
+     */
+    public void add(int index, Task task) {
+        Objects.checkIndex(index, size() + 1);
+        if (chunkCount == 0) {
+            insertChunk(0, new Task[CHUNK_SIZE]);
+        }
+        int c = index == size() ? chunkCount - 1 : chunkOf(index);
+        ownChunk(c);
+        if (ends[c] - startOf(c) == CHUNK_SIZE) {
+            splitChunk(c);
+            if (index > ends[c]) {
+                c++;
+            }
+        }
+
+        Task[] chunk = chunks[c];
+        int offset = index - startOf(c);
+        System.arraycopy(chunk, offset, chunk, offset + 1, ends[c] - index);
+        chunk[offset] = task;
+        for (int k = c; k < chunkCount; k++) {
+            ends[k]++;
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Removes the task at {@code index}, moving the tasks after it forward by one.
+     */
+    public void remove(int index) {
+        Objects.checkIndex(index, size());
+        int c = chunkOf(index);
+        ownChunk(c);
+        Task[] chunk = chunks[c];
+        int offset = index - startOf(c);
+        int count = ends[c] - startOf(c);
+        System.arraycopy(chunk, offset + 1, chunk, offset, count - offset - 1);
+        chunk[count - 1] = null;
+        for (int k = c; k < chunkCount; k++) {
+            ends[k]--;
+        }
+        if (count == 1) {
+            removeChunk(c);
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Returns an immutable list of the tasks in this vector as they are now, which is not affected by later changes.
+     * The same list is returned until this vector is next changed.
+     */
+    public List<Task> snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(chunks, ends, chunkCount);
+            isSpineShared = true;
+            generation++;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the position of the chunk with the task at {@code index}.
+     */
+    private int chunkOf(int index) {
+        return findChunk(ends, chunkCount, index);
+    }
+
+    private int startOf(int c) {
+        return c == 0 ? 0 : ends[c - 1];
+    }
+
+    /**
+     * Copies the chunk at position {@code c} unless it was created or copied since the last snapshot.
+     */
+    private void ownChunk(int c) {
+        ownSpine();
+        if (chunkGenerations[c] != generation) {
+            chunks[c] = chunks[c].clone();
+            chunkGenerations[c] = generation;
+        }
+    }
+
+    /**
+     * Copies the array of chunks and their ends if they are in a snapshot.
+     */
+    private void ownSpine() {
+        if (isSpineShared) {
+            chunks = chunks.clone();
+            ends = ends.clone();
+            isSpineShared = false;
+        }
+    }
+
+    /**
+     * Moves the second half of the full chunk at position {@code c}, which must be owned, into a new chunk after it.
+     */
+    private void splitChunk(int c) {
+        int half = CHUNK_SIZE / 2;
+        Task[] secondHalf = new Task[CHUNK_SIZE];
+        System.arraycopy(chunks[c], half, secondHalf, 0, CHUNK_SIZE - half);
+        Arrays.fill(chunks[c], half, CHUNK_SIZE, null);
+        insertChunk(c + 1, secondHalf);
+        ends[c + 1] = ends[c];
+        ends[c] -= CHUNK_SIZE - half;
+    }
+
+    /**
+     * Inserts {@code chunk} at position {@code c}, ending where the chunk before it ends.
+     */
+    private void insertChunk(int c, Task[] chunk) {
+        ownSpine();
+        if (chunkCount == chunks.length) {
+            int capacity = Math.max(2 * chunks.length, 1);
+            chunks = Arrays.copyOf(chunks, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            chunkGenerations = Arrays.copyOf(chunkGenerations, capacity);
+        }
+        System.arraycopy(chunks, c, chunks, c + 1, chunkCount - c);
+        System.arraycopy(ends, c, ends, c + 1, chunkCount - c);
+        System.arraycopy(chunkGenerations, c, chunkGenerations, c + 1, chunkCount - c);
+        chunks[c] = chunk;
+        ends[c] = startOf(c);
+        chunkGenerations[c] = generation;
+        chunkCount++;
+    }
+
+    /**
+     * Removes the empty chunk at position {@code c}.
+     */
+    private void removeChunk(int c) {
+        ownSpine();
+        System.arraycopy(chunks, c + 1, chunks, c, chunkCount - c - 1);
+        System.arraycopy(ends, c + 1, ends, c, chunkCount - c - 1);
+        System.arraycopy(chunkGenerations, c + 1, chunkGenerations, c, chunkCount - c - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Returns the position of the chunk with the task at {@code index}, among the first {@code chunkCount} chunks
+     * with the given {@code ends}.
+     */
+    private static int findChunk(int[] ends, int chunkCount, int index) {
+        int position = Arrays.binarySearch(ends, 0, chunkCount, index);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    /**
+     * An immutable list of tasks that shares its chunks with the vector it was taken from.
+     */
+    private static class Snapshot extends AbstractList<Task> implements RandomAccess {
+        private final Task[][] chunks;
+        private final int[] ends;
+        private final int chunkCount;
+
+        Snapshot(Task[][] chunks, int[] ends, int chunkCount) {
+            this.chunks = chunks;
+            this.ends = ends;
+            this.chunkCount = chunkCount;
+        }
+
+        @Override
+        public Task get(int index) {
+            Objects.checkIndex(index, size());
+            int c = findChunk(ends, chunkCount, index);
+            return chunks[c][c == 0 ? index : index - ends[c - 1]];
+        }
+
+        @Override
+        public int size() {
+            return chunkCount == 0 ? 0 : ends[chunkCount - 1];
+        }
+    }
+}
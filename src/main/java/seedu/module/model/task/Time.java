@@ -1,20 +1,20 @@
 package seedu.module.model.task;
 
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
-import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.AppUtil.checkArgument;
 
-import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 /**
  * Represents a Task's deadline in the module book.
+ * The instant is kept as the number of minutes since the epoch, together with whether its HH:mm field was given,
+ * so comparing two Times is a comparison of primitives. Its String and LocalDateTime forms are derived on demand.
  * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
  */
 public class Time implements Comparable<Time> {
@@ -27,9 +27,16 @@ public class Time implements Comparable<Time> {
     public static final DateTimeFormatter DATE_TIME_FORMATTER_WITH_TIME = DateTimeFormatter.ofPattern(
             yearMonthDayString + " " + timeString);
 
-    public final String value;
-    public final LocalDate date;
-    public final LocalDateTime time;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    // Lengths of a time string in yyyy-MM-dd and in yyyy-MM-dd HH:mm format
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 16;
+    // Returned by parseEpochMinute for invalid time strings, as no valid time string is that far from the epoch
+    private static final long INVALID_TIME = Long.MIN_VALUE;
+
+    private final long epochMinute;
+    private final boolean hasTime;
 
     /**
      * Constructs a {@code Time}.
@@ -38,22 +45,29 @@ public class Time implements Comparable<Time> {
      */
     public Time(String timeString) {
         requireNonNull(timeString);
-        checkArgument(isValidTime(timeString), MESSAGE_CONSTRAINTS);
+        long parsedEpochMinute = parseEpochMinute(timeString);
+        checkArgument(parsedEpochMinute != INVALID_TIME, MESSAGE_CONSTRAINTS);
 
-        String[] timeStringArray = timeString.split(" ");
-        String dateString = timeStringArray[0];
+        epochMinute = parsedEpochMinute;
+        hasTime = timeString.length() == DATE_TIME_LENGTH;
+    }
 
-        date = parseDate(dateString, ISO_LOCAL_DATE);
-        value = timeString;
+    private Time(long epochMinute, boolean hasTime) {
+        this.epochMinute = epochMinute;
+        this.hasTime = hasTime;
+    }
 
-        // only yyyy-MM-dd fields present
-        if (!hasHoursMinutes(timeString)) {
-            time = date.atTime(0, 0);
-        } else {
-            String hourMinutesString = timeStringArray[1];
-            LocalTime hourMinutesField = parseHoursMinutes(hourMinutesString, ISO_LOCAL_TIME);
-            time = date.atTime(hourMinutesField);
+    /**
+     * Returns the Time represented by {@code timeString}, or an empty Optional if it is not a valid time.
+     * Unlike checking {@link #isValidTime(String)} before calling the constructor, this reads the string only once.
+     */
+    public static Optional<Time> parse(String timeString) {
+        requireNonNull(timeString);
+        long parsedEpochMinute = parseEpochMinute(timeString);
+        if (parsedEpochMinute == INVALID_TIME) {
+            return Optional.empty();
         }
+        return Optional.of(new Time(parsedEpochMinute, timeString.length() == DATE_TIME_LENGTH));
     }
 
     /**
@@ -63,120 +77,151 @@ public class Time implements Comparable<Time> {
      */
     public static Time makeTimeObject(LocalDateTime time) {
         requireNonNull(time);
-        String deadlineString = time.format(DATE_TIME_FORMATTER_WITH_TIME);
-        return new Time(deadlineString);
+        return new Time(toEpochMinute(time.toLocalDate(), time.getHour(), time.getMinute()), true);
     }
 
     /**
-     * Creates a new, correctly formatted time String
-     * @param oldTime Time object to be incremented.
-     * @param increment number of days to be added.
-     * @return String representing the value of incremented time.
+     * Returns a copy of this Time that is {@code days} days later, keeping whether the HH:mm field is present.
      */
-    public static String makeNextTimeString(Time oldTime, long increment) {
-        LocalDate newDate = oldTime.getDate().plusDays(increment);
+    public Time plusDays(long days) {
+        return new Time(epochMinute + days * MINUTES_PER_DAY, hasTime);
+    }
 
-        String dateString = newDate.format(ISO_LOCAL_DATE);
+    private static long toEpochMinute(LocalDate date, int hour, int minute) {
+        return toEpochMinute(date.toEpochDay(), hour, minute);
+    }
 
-        if (hasHoursMinutes(oldTime.value)) {
-            LocalTime hourMinuteField = oldTime.getTime().toLocalTime().truncatedTo(ChronoUnit.MINUTES);
-            String hourMinuteFieldString = hourMinuteField.toString();
-            return dateString + " " + hourMinuteFieldString;
-        } else {
-            return dateString;
-        }
+    private static long toEpochMinute(long epochDay, int hour, int minute) {
+        return epochDay * MINUTES_PER_DAY + hour * MINUTES_PER_HOUR + minute;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to this Time, counting a Time without HH:mm field as midnight.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the number of days from the epoch to the date of this Time.
+     */
+    public long getEpochDay() {
+        return Math.floorDiv(epochMinute, MINUTES_PER_DAY);
     }
 
     public LocalDate getDate() {
-        return this.date;
+        return LocalDate.ofEpochDay(getEpochDay());
     }
 
     public LocalDateTime getTime() {
-        return this.time;
+        int minuteOfDay = (int) Math.floorMod(epochMinute, (long) MINUTES_PER_DAY);
+        return getDate().atTime(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
     }
 
     /**
-     * Checks for {@code timeString} containing HH:mm field
-     * @param timeString String to be checked.
-     * @return true if HH:mm substring present. False otherwise.
+     * Returns true if this Time has a HH:mm field.
      */
-    public static boolean hasHoursMinutes(String timeString) {
-        assert timeString != null;
-        String[] timeStringArray = timeString.split(" ");
-
-        return timeStringArray.length > 1;
+    public boolean hasHoursMinutes() {
+        return hasTime;
     }
 
-
     /**
      * Returns true if a given string is a valid time.
      * A valid time can either be in yyyy-MM-dd or yyyy-MM-dd HH:mm format.
      */
     public static boolean isValidTime(String test) {
         requireNonNull(test);
-        if (!hasHoursMinutes(test)) {
-            return isValidDate(test);
-        } else {
-            String[] testStringArr = test.split(" ");
-            String yearMonthDaySubstring = testStringArr[0];
-            String hourMinutesSubstring = testStringArr[1];
-
-            return isValidDate(yearMonthDaySubstring) && isValidHoursMinutes(hourMinutesSubstring);
-        }
+        return parseEpochMinute(test) != INVALID_TIME;
     }
 
-    private static LocalDate parseDate(String dateString, DateTimeFormatter formatter) throws DateTimeParseException {
-        return LocalDate.parse(dateString, formatter);
-    }
-
-    private static boolean isValidDate(String dateString) {
-        try {
-            parseDate(dateString, ISO_LOCAL_DATE);
-        } catch (DateTimeParseException e) {
-            return false;
-        } catch (DateTimeException e) {
-            return false;
+    /**
+     * Returns the epoch minute of {@code timeString}, or {@code INVALID_TIME} if it is not in yyyy-MM-dd or
+     * yyyy-MM-dd HH:mm format or does not name an existing date and time.
+     * Reads the string in a single pass without creating any objects, as all task times are parsed this way when
+     * the module book is loaded.
+     */
+    private static long parseEpochMinute(String timeString) {
+        int length = timeString.length();
+        if (length != DATE_LENGTH && length != DATE_TIME_LENGTH) {
+            return INVALID_TIME;
         }
-        return true;
-    }
 
-    private static LocalTime parseHoursMinutes(String hoursMinutesString, DateTimeFormatter formatter)
-            throws DateTimeParseException {
+        int year = parseDigits(timeString, 0, 4);
+        int month = parseDigits(timeString, 5, 7);
+        int day = parseDigits(timeString, 8, 10);
+        if (timeString.charAt(4) != '-' || timeString.charAt(7) != '-' || year < 0
+                || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return INVALID_TIME;
+        }
+        if (length == DATE_LENGTH) {
+            return toEpochMinute(toEpochDay(year, month, day), 0, 0);
+        }
 
-        return LocalTime.parse(hoursMinutesString, formatter);
+        int hour = parseDigits(timeString, 11, 13);
+        int minute = parseDigits(timeString, 14, 16);
+        if (timeString.charAt(10) != ' ' || timeString.charAt(13) != ':'
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID_TIME;
+        }
+        return toEpochMinute(toEpochDay(year, month, day), hour, minute);
     }
 
-    private static boolean isValidHoursMinutes(String hoursMinutesString) {
-        try {
-            parseHoursMinutes(hoursMinutesString, DateTimeFormatter.ofPattern(timeString));
-        } catch (DateTimeParseException e) {
-            return false;
-        } catch (DateTimeException e) {
-            return false;
+    /**
+     * Returns the number formed by the characters of {@code string} from {@code begin} to {@code end}, exclusive,
+     * or -1 if any of them is not a digit.
+     */
+    private static int parseDigits(String string, int begin, int end) {
+        int number = 0;
+        for (int i = begin; i < end; i++) {
+            char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
         }
-        return true;
+        return number;
     }
 
+    /**
+     * Returns the number of days from the epoch to the given date of a non-negative year, as
+     * {@link LocalDate#toEpochDay()} does, without creating a LocalDate.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        // Counts from 1 March so that the leap day is the last day of the year
+        int marchBasedYear = month <= 2 ? year - 1 : year;
+        int marchBasedMonth = month <= 2 ? month + 9 : month - 3;
+        long era = Math.floorDiv(marchBasedYear, 400);
+        long yearOfEra = marchBasedYear - era * 400;
+        long dayOfYear = (153 * marchBasedMonth + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        // 719468 is the number of days from 0000-03-01 to 1970-01-01
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns this Time in yyyy-MM-dd format, or in yyyy-MM-dd HH:mm format if it has a HH:mm field.
+     */
     @Override
     public String toString() {
-        return value;
+        return hasTime ? getTime().format(DATE_TIME_FORMATTER_WITH_TIME) : getDate().format(ISO_LOCAL_DATE);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Time // instanceof handles nulls
-                && value.equals(((Time) other).value)); // state check
+                && epochMinute == ((Time) other).epochMinute
+                && hasTime == ((Time) other).hasTime); // state check
     }
 
     @Override
     public int compareTo(Time other) {
-        return time.compareTo(other.getTime());
+        return Long.compare(epochMinute, other.epochMinute);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * Long.hashCode(epochMinute) + Boolean.hashCode(hasTime);
     }
 
 }
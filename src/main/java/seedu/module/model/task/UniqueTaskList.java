@@ -3,11 +3,17 @@ package seedu.module.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.module.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.module.model.task.exceptions.DuplicateTaskException;
 import seedu.module.model.task.exceptions.TaskNotFoundException;
@@ -19,6 +25,11 @@ import seedu.module.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  *
+ * An index from the identity of each task (its name and module) to the task itself is kept in sync with the
+ * backing list, so that duplicate checks and identity lookups do not need to scan the whole list. The position of
+ * each task is also indexed by its id, so that the task to replace or remove can usually be found without a scan.
+ * The backing list is mirrored in a {@code TaskVector}, from which immutable snapshots are taken in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -28,6 +39,22 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TaskIdentity, Task> identityIndex = new HashMap<>();
+    private final Map<Long, Integer> positionIndex = new HashMap<>();
+
+    // Copy of the list that changes are made to while a batch is in progress, null otherwise
+    private List<Task> batchList;
+    private int batchDepth;
+
+    // Same tasks as internalList, kept in chunks that snapshots share with it
+    private final TaskVector taskVector = new TaskVector();
+
+    /**
+     * Creates an empty UniqueTaskList.
+     */
+    public UniqueTaskList() {
+        internalList.addListener(this::followChange);
+    }
 
     /**
      * Checks if the list contains a task with the same name and module code as {@code toCheck}.
@@ -36,7 +63,15 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identityIndex.containsKey(new TaskIdentity(toCheck));
+    }
+
+    /**
+     * Returns the task in the list with the same name and module code as {@code toFind}, or null if there is none.
+     */
+    public Task getTaskWithSameIdentity(Task toFind) {
+        requireNonNull(toFind);
+        return identityIndex.get(new TaskIdentity(toFind));
     }
 
     /**
@@ -46,7 +81,8 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean containsRecurringTask(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        // tasks with the same attributes also share the same identity, and identities are unique in the list
+        return toCheck.equals(getTaskWithSameIdentity(toCheck));
     }
 
     /**
@@ -58,7 +94,28 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        List<Task> tasks = workingList();
+        tasks.add(toAdd);
+        identityIndex.put(new TaskIdentity(toAdd), toAdd);
+        positionIndex.putIfAbsent(toAdd.getId(), tasks.size() - 1);
+    }
+
+    /**
+     * Adds a task to the list at position {@code index}, moving the tasks from that position onwards back by one.
+     * The task must not already exist in the list.
+     */
+    public void add(int index, Task toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTaskException();
+        }
+        List<Task> tasks = workingList();
+        tasks.add(index, toAdd);
+        identityIndex.put(new TaskIdentity(toAdd), toAdd);
+        for (int i = tasks.size() - 1; i > index; i--) {
+            positionIndex.replace(tasks.get(i).getId(), i - 1, i);
+        }
+        positionIndex.putIfAbsent(toAdd.getId(), index);
     }
 
     /**
@@ -69,7 +126,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -78,15 +135,11 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
-    }
-
-    /**
-     * Sorts the tasks in the list by deadline.
-     * @param factor
-     */
-    public void sortTasks(Comparator<Task> factor) {
-        internalList.sort(factor);
+        workingList().set(index, editedTask);
+        identityIndex.remove(new TaskIdentity(target));
+        identityIndex.put(new TaskIdentity(editedTask), editedTask);
+        positionIndex.remove(target.getId(), index);
+        positionIndex.putIfAbsent(editedTask.getId(), index);
     }
 
     /**
@@ -95,14 +148,26 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        List<Task> tasks = workingList();
+        tasks.remove(index);
+        identityIndex.remove(new TaskIdentity(toRemove));
+        positionIndex.remove(toRemove.getId(), index);
+        for (int i = index; i < tasks.size(); i++) {
+            positionIndex.replace(tasks.get(i).getId(), i + 1, i);
+        }
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.workingList());
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
@@ -115,7 +180,9 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        replaceContents(tasks);
+        rebuildIdentityIndex();
+        rebuildPositionIndex();
     }
 
     /**
@@ -125,34 +192,162 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable list of the tasks in the backing list, which is not affected by later changes to this list.
+     * Taking a snapshot takes constant time, as the snapshot shares its chunks of tasks with this list. Each later
+     * change copies only the chunk it changes and the array of chunks, instead of all tasks.
+     */
+    public List<Task> asSnapshot() {
+        return taskVector.snapshot();
+    }
+
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return workingList().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueTaskList // instanceof handles nulls
-                        && internalList.equals(((UniqueTaskList) other).internalList));
+                        && workingList().equals(((UniqueTaskList) other).workingList()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList().hashCode();
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()}, changes to this list are not
+     * reflected in {@link #asUnmodifiableObservableList()}, which then changes only once when the batch is committed.
+     * Batches may be nested, in which case the changes are only published when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            batchList = new ArrayList<>(internalList);
+        }
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch of changes started by the last {@link #beginBatch()}, publishing all changes made since the
+     * outermost batch started as a single change to the observable list.
+     */
+    public void commitBatch() {
+        assert batchDepth > 0 : "No batch to commit";
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+
+        List<Task> committedTasks = batchList;
+        batchList = null;
+        if (!internalList.equals(committedTasks)) {
+            internalList.setAll(committedTasks);
+        }
+    }
+
+    /**
+     * Makes the changes in {@code change} to the task vector, so that it keeps the same tasks as the backing list.
+     * Large changes, such as those of a committed batch, replace all tasks in the task vector instead.
+     */
+    private void followChange(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > TaskVector.CHUNK_SIZE) {
+                taskVector.setAll(internalList);
+                return;
+            }
+            if (change.wasUpdated()) {
+                continue;
+            }
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                taskVector.remove(change.getFrom());
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                taskVector.add(i, internalList.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the list that changes should be made to, which is the batch copy while a batch is in progress.
+     */
+    private List<Task> workingList() {
+        return batchList == null ? internalList : batchList;
+    }
+
+    private void replaceContents(List<Task> tasks) {
+        if (batchList == null) {
+            internalList.setAll(tasks);
+        } else {
+            batchList.clear();
+            batchList.addAll(tasks);
+        }
+    }
+
+    /**
+     * Returns the position of the task equivalent to {@code toFind} in the list, or -1 if there is none.
+     * The position index is tried first, falling back to a scan if it does not point to an equivalent task.
+     */
+    private int indexOf(Task toFind) {
+        Integer position = positionIndex.get(toFind.getId());
+        if (position != null && workingList().get(position).equals(toFind)) {
+            return position;
+        }
+        return workingList().indexOf(toFind);
+    }
+
+    private void rebuildPositionIndex() {
+        positionIndex.clear();
+        for (int i = 0; i < workingList().size(); i++) {
+            positionIndex.putIfAbsent(workingList().get(i).getId(), i);
+        }
+    }
+
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        for (Task task : workingList()) {
+            identityIndex.put(new TaskIdentity(task), task);
+        }
     }
 
     /**
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<TaskIdentity> identities = new HashSet<>();
+        for (Task task : tasks) {
+            if (!identities.add(new TaskIdentity(task))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Key of the identity index, made up of the fields used by {@code Task#isSameTask(Task)}.
+     */
+    private static class TaskIdentity {
+        private final Name name;
+        private final Module module;
+
+        TaskIdentity(Task task) {
+            this.name = task.getName();
+            this.module = task.getModule();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TaskIdentity // instanceof handles nulls
+                    && name.equals(((TaskIdentity) other).name)
+                    && module.equals(((TaskIdentity) other).module));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, module);
+        }
+    }
 }
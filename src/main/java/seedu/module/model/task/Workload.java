@@ -16,6 +16,9 @@ public class Workload implements Comparable<Workload> {
     public static final String MESSAGE_CONSTRAINTS =
             "Workload level should be an integer in range 1-3 inclusive";
 
+    // The canonical Workload of each level, indexed by level
+    private static final Workload[] WORKLOADS = {null, new Workload("1"), new Workload("2"), new Workload("3")};
+
     public final Integer workloadLevel;
 
     /**
@@ -29,6 +32,17 @@ public class Workload implements Comparable<Workload> {
         this.workloadLevel = Integer.valueOf(workloadLevel);
     }
 
+    /**
+     * Returns the canonical {@code Workload} of {@code workloadLevel}.
+     *
+     * @param workloadLevel A valid workloadLevel.
+     */
+    public static Workload of(String workloadLevel) {
+        requireNonNull(workloadLevel);
+        checkArgument(isValidWorkload(workloadLevel), MESSAGE_CONSTRAINTS);
+        return WORKLOADS[Integer.parseInt(workloadLevel)];
+    }
+
     public Integer getWorkloadLevel() {
         return this.workloadLevel;
     }
@@ -23,14 +23,14 @@ public class SampleDataUtil {
     public static Task[] getSampleTasks() {
         return new Task[] {
             new Task(new Name("Midterm"), new OptionalField<>(new Time("2021-03-07 08:30")),
-                    new Time("2021-03-07 10:30"), new Module("CS3243"),
-                    new Description("Not include CSP."), new Workload("3"),
-                    new DoneStatus(false), new OptionalField<>(null),
+                    new Time("2021-03-07 10:30"), Module.of("CS3243"),
+                    new Description("Not include CSP."), Workload.of("3"),
+                    DoneStatus.NOT_DONE, new OptionalField<>(null),
                     getTagSet("highPriority")),
             new Task(new Name("Team Project"), new OptionalField<>(new Time("2021-03-15 14:00")),
-                    new Time("2021-03-15 16:00"), new Module("CS2103T"),
-                    new Description("Wrap up version 1.2."), new Workload("3"),
-                    new DoneStatus(true), new OptionalField<>(null),
+                    new Time("2021-03-15 16:00"), Module.of("CS2103T"),
+                    new Description("Wrap up version 1.2."), Workload.of("3"),
+                    DoneStatus.DONE, new OptionalField<>(null),
                     getTagSet())
         };
     }
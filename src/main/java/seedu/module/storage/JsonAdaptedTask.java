@@ -29,6 +29,7 @@ class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String startTime;
     private final String deadline;
@@ -41,13 +42,16 @@ class JsonAdaptedTask {
 
     /**
      * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * Task records saved before ids were introduced have no id, and are given a new one when loaded.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("name") String name, @JsonProperty("startTime") String startTime,
+    public JsonAdaptedTask(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                           @JsonProperty("startTime") String startTime,
                            @JsonProperty("deadline") String deadline, @JsonProperty("module") String module,
                            @JsonProperty("description") String description, @JsonProperty("workload") String workload,
                            @JsonProperty("doneStatus") String doneStatus, @JsonProperty("recurrence") String recurrence,
                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.startTime = startTime;
         this.deadline = deadline;
@@ -65,17 +69,26 @@ class JsonAdaptedTask {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedTask} without an id with the given task details.
+     */
+    public JsonAdaptedTask(String name, String startTime, String deadline, String module, String description,
+                           String workload, String doneStatus, String recurrence, List<JsonAdaptedTag> tagged) {
+        this(null, name, startTime, deadline, module, description, workload, doneStatus, recurrence, tagged);
+    }
+
     /**
      * Converts a given {@code Task} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        id = source.getId();
         name = source.getName().fullName;
         if (!source.isDeadline()) {
-            startTime = source.getStartTime().value;
+            startTime = source.getStartTime().toString();
         } else {
             startTime = "";
         }
-        deadline = source.getDeadline().value;
+        deadline = source.getDeadline().toString();
         module = source.getModule().value;
         description = source.getDescription().value;
         workload = source.getWorkload().toString();
@@ -96,6 +109,10 @@ class JsonAdaptedTask {
      * @throws IllegalValueException if there were any data constraints violated in the adapted task.
      */
     public Task toModelType() throws IllegalValueException {
+        if (id != null && !Task.isValidId(id)) {
+            throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+        }
+
         final List<Tag> taskTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             taskTags.add(tag.toModelType());
@@ -113,20 +130,16 @@ class JsonAdaptedTask {
         if (startTime == null || startTime.equals("")) {
             modelStartTime = new OptionalField<>(null);
         } else {
-            if (!Time.isValidTime(startTime)) {
-                throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-            }
-            modelStartTime = new OptionalField<>(new Time(startTime));
+            modelStartTime = new OptionalField<>(Time.parse(startTime)
+                    .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS)));
         }
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Time.class.getSimpleName()));
         }
-        if (!Time.isValidTime(deadline)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final Time modelDeadline = new Time(deadline);
+        final Time modelDeadline = Time.parse(deadline)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         if (module == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Module.class.getSimpleName()));
@@ -134,7 +147,7 @@ class JsonAdaptedTask {
         if (!Module.isValidModuleFormat(module)) {
             throw new IllegalValueException(Module.MESSAGE_CONSTRAINTS);
         }
-        final Module modelModule = new Module(module);
+        final Module modelModule = Module.of(module);
 
         if (description == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -152,7 +165,7 @@ class JsonAdaptedTask {
         if (!Workload.isValidWorkload(workload)) {
             throw new IllegalValueException(Workload.MESSAGE_CONSTRAINTS);
         }
-        final Workload modelWorkload = new Workload(workload);
+        final Workload modelWorkload = Workload.of(workload);
 
         if (doneStatus == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -162,7 +175,7 @@ class JsonAdaptedTask {
             throw new IllegalValueException(DoneStatus.MESSAGE_CONSTRAINTS);
         }
 
-        final DoneStatus modelDoneStatus = new DoneStatus(doneStatus);
+        final DoneStatus modelDoneStatus = DoneStatus.of(doneStatus);
 
         OptionalField<Recurrence> modelRecurrence;
         if (startTime == null || recurrence.equals("")) {
@@ -171,12 +184,16 @@ class JsonAdaptedTask {
             if (!Recurrence.isValidRecurrence(recurrence)) {
                 throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
             }
-            modelRecurrence = new OptionalField<>(new Recurrence(recurrence));
+            modelRecurrence = new OptionalField<>(Recurrence.of(recurrence));
         }
 
         final Set<Tag> modelTags = new HashSet<>(taskTags);
 
-        return new Task(modelName, modelStartTime, modelDeadline, modelModule, modelDescription,
+        if (id == null) {
+            return new Task(modelName, modelStartTime, modelDeadline, modelModule, modelDescription,
+                    modelWorkload, modelDoneStatus, modelRecurrence, modelTags);
+        }
+        return new Task(id, modelName, modelStartTime, modelDeadline, modelModule, modelDescription,
                 modelWorkload, modelDoneStatus, modelRecurrence, modelTags);
 
     }
@@ -1,7 +1,10 @@
 package seedu.module.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,8 +13,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.module.commons.exceptions.IllegalValueException;
 import seedu.module.model.ModuleBook;
-import seedu.module.model.ModuleManager;
 import seedu.module.model.ReadOnlyModuleBook;
+import seedu.module.model.task.Module;
+import seedu.module.model.task.Name;
 import seedu.module.model.task.Task;
 
 /**
@@ -48,19 +52,22 @@ class JsonSerializableModuleBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ModuleBook toModelType() throws IllegalValueException {
-        ModuleBook moduleBook = new ModuleBook();
-        ModuleManager.initSupportedModulesInStr();
+        List<Task> modelTasks = new ArrayList<>(tasks.size());
+        // Name and module of each task so far, so that the first problem in the file is the one reported
+        Set<Map.Entry<Name, Module>> taskIdentities = new HashSet<>();
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
             Task task = jsonAdaptedTask.toModelType();
-            if (moduleBook.hasTask(task)) {
+            if (!taskIdentities.add(Map.entry(task.getName(), task.getModule()))) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
-            if (!ModuleManager.moduleIsValid(task.getModule().toString())) {
+            if (!Module.isSupportedModuleCode(task.getModule().toString())) {
                 throw new IllegalValueException(MESSAGE_MODULE_NOT_ALLOWED);
             }
-            moduleBook.addTask(task);
+            modelTasks.add(task);
         }
 
+        ModuleBook moduleBook = new ModuleBook();
+        moduleBook.addTasks(modelTasks);
         return moduleBook;
     }
 
@@ -121,10 +121,10 @@ public class MainWindow extends UiPart<Stage> {
         taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
 
-        moduleListPanel = new ModuleListPanel(logic.getModuleList());
+        moduleListPanel = new ModuleListPanel(logic.getModuleList(), logic::getModuleWorkloadInformation);
         moduleListPanelPlaceholder.getChildren().add(moduleListPanel.getRoot());
 
-        statsPanel = new StatsPanel();
+        statsPanel = new StatsPanel(logic.getModulePieChartData());
         statsPlaceholder.getChildren().add(statsPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
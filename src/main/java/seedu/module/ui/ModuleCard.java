@@ -4,7 +4,6 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.module.model.ModuleManager;
 import seedu.module.model.task.Module;
 
 /**
@@ -35,14 +34,14 @@ public class ModuleCard extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code TaskCode} with the given {@code Task} and index to display.
+     * Creates a {@code TaskCode} with the given {@code Task}, index and workload information to display.
      */
-    public ModuleCard(Module module, int displayedIndex) {
+    public ModuleCard(Module module, int displayedIndex, String workloadInformation) {
         super(FXML);
         this.module = module;
         id.setText(displayedIndex + ". ");
         name.setText(module.toString());
-        workloadDistribution.setText(ModuleManager.getModuleWorkloadInformation(module));
+        workloadDistribution.setText(workloadInformation);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package seedu.module.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -20,11 +21,15 @@ public class ModuleListPanel extends UiPart<Region> {
     @FXML
     private ListView<Module> moduleListView;
 
+    private final Function<Module, String> workloadInformation;
+
     /**
-     * Creates a {@code TaskListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TaskListPanel} with the given {@code ObservableList}, showing the workload of each module
+     * as given by {@code workloadInformation}.
      */
-    public ModuleListPanel(ObservableList<Module> moduleList) {
+    public ModuleListPanel(ObservableList<Module> moduleList, Function<Module, String> workloadInformation) {
         super(FXML);
+        this.workloadInformation = workloadInformation;
         moduleListView.setItems(moduleList);
         moduleListView.setCellFactory(listView -> new ModuleListViewCell());
     }
@@ -41,7 +46,8 @@ public class ModuleListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ModuleCard(module, getIndex() + 1).getRoot());
+                setGraphic(new ModuleCard(module, getIndex() + 1,
+                        workloadInformation.apply(module)).getRoot());
             }
         }
     }
@@ -54,8 +54,8 @@ public class TaskCard extends UiPart<Region> {
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().fullName);
         deadline.setText(task.isDeadline()
-                ? task.getDeadline().value
-                : task.getStartTime().value + " -> " + task.getDeadline().value);
+                ? task.getDeadline().toString()
+                : task.getStartTime() + " -> " + task.getDeadline());
         description.setText(task.getDescription().value);
         module.setText(task.getModule().value);
         workload.setText(task.getWorkload().displayUi());
@@ -92,7 +92,7 @@ public class TaskListPanel extends UiPart<Region> {
          */
         protected String classifyTimeLeftByColor(Task task) {
             LocalDateTime now = LocalDateTime.now();
-            LocalDateTime t = task.getDeadline().time;
+            LocalDateTime t = task.getDeadline().getTime();
 
             double i = t.compareTo(now);
             if (i > 0) {
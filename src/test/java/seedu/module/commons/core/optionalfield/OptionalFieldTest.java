@@ -37,6 +37,12 @@ class OptionalFieldTest {
 
     }
 
+    @Test
+    void hashCodeTest() {
+        assertEquals(new OptionalField<>("one").hashCode(), new OptionalField<>("one").hashCode());
+        assertEquals(new OptionalField<>(null).hashCode(), new OptionalField<>(null).hashCode());
+    }
+
     @Test
     void toStringTest() {
         OptionalField<String> testObjectNull = new OptionalField<>(null);
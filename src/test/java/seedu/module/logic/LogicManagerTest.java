@@ -18,9 +18,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.module.commons.util.FileUtil;
 import seedu.module.logic.commands.AddCommand;
 import seedu.module.logic.commands.CommandResult;
 import seedu.module.logic.commands.ListCommand;
+import seedu.module.logic.commands.RefreshCommand;
+import seedu.module.logic.commands.SwitchCommand;
 import seedu.module.logic.commands.exceptions.CommandException;
 import seedu.module.logic.parser.exceptions.ParseException;
 import seedu.module.model.Model;
@@ -89,6 +92,74 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommandStorageThrowsIoException_success() throws Exception {
+        JsonModuleBookStorage moduleBookStorage =
+                new JsonModuleBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionModuleBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(moduleBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        // list does not change the module book -> not saved
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_moduleBookUnchangedSinceLastSave_notSavedAgain() throws Exception {
+        JsonModuleBookSaveCountingStub moduleBookStorage =
+                new JsonModuleBookSaveCountingStub(temporaryFolder.resolve("countingModuleBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(moduleBookStorage, userPrefsStorage));
+
+        logic.execute(RefreshCommand.COMMAND_WORD);
+        assertEquals(1, moduleBookStorage.saveCount);
+
+        // nothing to refresh -> not saved again
+        logic.execute(RefreshCommand.COMMAND_WORD);
+        assertEquals(1, moduleBookStorage.saveCount);
+
+        // task added -> saved
+        logic.execute(AddCommand.COMMAND_WORD + TASK_NAME_DESC_LAB + DEADLINE_DESC_LAB + MODULE_DESC_LAB
+                + DESCRIPTION_DESC_LAB + WORKLOAD_DESC_1);
+        assertEquals(2, moduleBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_switchModuleBook_switchesAndSwitchesBack() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + TASK_NAME_DESC_LAB + DEADLINE_DESC_LAB + MODULE_DESC_LAB
+                + DESCRIPTION_DESC_LAB + WORKLOAD_DESC_1;
+        logic.execute(addCommand);
+        Path secondFilePath = temporaryFolder.resolve("secondModuleBook.json");
+
+        // new file -> empty module book
+        logic.execute(SwitchCommand.COMMAND_WORD + " " + secondFilePath);
+        assertEquals(new ModelManager().getModuleBook(), model.getModuleBook());
+        assertEquals(secondFilePath, model.getModuleBookFilePath());
+
+        // changes are saved to the new file
+        logic.execute(addCommand);
+        assertEquals(1, new JsonModuleBookStorage(secondFilePath).readModuleBook().get().getTaskList().size());
+
+        // switch back -> original module book
+        Path firstFilePath = temporaryFolder.resolve("moduleBook.json");
+        logic.execute(SwitchCommand.COMMAND_WORD + " " + firstFilePath);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addTask(new TaskBuilder(LAB).withTags().build());
+        assertEquals(expectedModel.getModuleBook(), model.getModuleBook());
+        assertEquals(firstFilePath, model.getModuleBookFilePath());
+    }
+
+    @Test
+    public void execute_switchToInvalidFile_throwsCommandException() throws Exception {
+        Path invalidFilePath = temporaryFolder.resolve("invalidModuleBook.json");
+        FileUtil.writeToFile(invalidFilePath, "not json");
+
+        assertCommandException(SwitchCommand.COMMAND_WORD + " " + invalidFilePath,
+                LogicManager.FILE_READ_ERROR_MESSAGE + invalidFilePath);
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTaskList().remove(0));
@@ -160,4 +231,21 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class JsonModuleBookSaveCountingStub extends JsonModuleBookStorage {
+        private int saveCount = 0;
+
+        private JsonModuleBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveModuleBook(ReadOnlyModuleBook moduleBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveModuleBook(moduleBook, filePath);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package seedu.module.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.ModuleBook;
+
+public class ModuleBookCacheTest {
+
+    private final Path firstPath = Paths.get("data", "first.json");
+    private final Path secondPath = Paths.get("data", "second.json");
+    private final Path thirdPath = Paths.get("data", "third.json");
+    private final ModuleBook firstModuleBook = new ModuleBook();
+    private final ModuleBook secondModuleBook = new ModuleBook();
+    private final ModuleBook thirdModuleBook = new ModuleBook();
+
+    @Test
+    public void take_keptModuleBook_returnsAndRemovesModuleBook() {
+        ModuleBookCache cache = new ModuleBookCache(2);
+        cache.put(firstPath, firstModuleBook);
+
+        // different path to the same file -> same module book
+        assertSame(firstModuleBook, cache.take(Paths.get("data", ".", "first.json")).get());
+        assertFalse(cache.take(firstPath).isPresent());
+    }
+
+    @Test
+    public void put_moreThanCapacity_leastRecentlyUsedEvicted() {
+        ModuleBookCache cache = new ModuleBookCache(2);
+        cache.put(firstPath, firstModuleBook);
+        cache.put(secondPath, secondModuleBook);
+
+        // first module book used again -> second module book is the least recently used
+        cache.put(firstPath, firstModuleBook);
+        cache.put(thirdPath, thirdModuleBook);
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.take(secondPath).isPresent());
+        assertTrue(cache.take(firstPath).isPresent());
+        assertTrue(cache.take(thirdPath).isPresent());
+    }
+
+    @Test
+    public void setCapacity_smallerCapacity_excessEvicted() {
+        ModuleBookCache cache = new ModuleBookCache(2);
+        cache.put(firstPath, firstModuleBook);
+        cache.put(secondPath, secondModuleBook);
+
+        cache.setCapacity(0);
+        assertEquals(0, cache.size());
+    }
+}
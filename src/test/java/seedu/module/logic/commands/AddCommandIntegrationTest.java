@@ -9,7 +9,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.module.model.Model;
 import seedu.module.model.ModelManager;
-import seedu.module.model.ModuleManager;
 import seedu.module.model.UserPrefs;
 import seedu.module.model.task.Task;
 import seedu.module.testutil.TaskBuilder;
@@ -23,8 +22,6 @@ public class AddCommandIntegrationTest {
 
     @BeforeEach
     public void setUp() {
-        ModuleManager.initSupportedModulesInStr();
-        ModuleManager.rebuildMapping();
         model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
     }
 
@@ -7,22 +7,28 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import javafx.scene.chart.PieChart;
 import seedu.module.commons.core.GuiSettings;
 import seedu.module.logic.commands.exceptions.CommandException;
 import seedu.module.model.Model;
 import seedu.module.model.ModuleBook;
 import seedu.module.model.ReadOnlyModuleBook;
 import seedu.module.model.ReadOnlyUserPrefs;
+import seedu.module.model.tag.Tag;
 import seedu.module.model.task.Module;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 import seedu.module.testutil.TaskBuilder;
 
 public class AddCommandTest {
@@ -134,6 +140,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void switchModuleBook(Path filePath, ReadOnlyModuleBook moduleBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyModuleBook getModuleBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTask(Task task) {
             throw new AssertionError("This method should not be called.");
@@ -154,6 +170,86 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Task> getTasksWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksDueBetween(Time from, Time to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getWorkloadDueBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<LocalDate> getBusiestWeekBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getNextTasks(int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showTasksInOrder(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitModuleBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoModuleBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoModuleBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoModuleBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoModuleBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearModuleBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortTasks(Comparator<Task> factor) {
             throw new AssertionError("This method should not be called.");
@@ -169,6 +265,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<PieChart.Data> getModulePieChartData() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String getModuleWorkloadInformation(Module module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTaskList(Predicate<Task> predicate) {
             throw new AssertionError("This method should not be called.");
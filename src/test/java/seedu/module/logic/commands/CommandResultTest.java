@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -26,6 +30,14 @@ public class CommandResultTest {
         assertFalse(falseExit.isExit());
     }
 
+    @Test
+    public void getModuleBookToOpen() {
+        Path filePath = Paths.get("modulebook.json");
+
+        assertEquals(Optional.of(filePath), new CommandResult("feedback", filePath).getModuleBookToOpen());
+        assertEquals(Optional.empty(), new CommandResult("feedback").getModuleBookToOpen());
+    }
+
     @Test
     public void toStringTest() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -57,6 +69,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different moduleBookToOpen value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", Paths.get("modulebook.json"))));
     }
 
     @Test
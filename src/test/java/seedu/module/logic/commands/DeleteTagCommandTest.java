@@ -100,6 +100,7 @@ class DeleteTagCommandTest {
                 DeleteTagCommand.MESSAGE_DELETE_TAG_TASK_SUCCESS, editedTask);
 
         Model expectedModel = new ModelManager(new ModuleBook(model.getModuleBook()), new UserPrefs());
+        showTaskAtIndex(expectedModel, INDEX_FIRST_TASK);
         expectedModel.setTask(firstTask, editedTask);
 
         assertCommandSuccess(deleteTagCommand, model, expectedMessage, expectedModel);
@@ -88,6 +88,7 @@ public class DoneCommandTest {
         DoneCommand doneCommand = new DoneCommand(INDEX_FIRST_TASK);
 
         Model expectedModel = new ModelManager(model.getModuleBook(), new UserPrefs());
+        showTaskAtIndex(expectedModel, INDEX_FIRST_TASK);
         Task referenceTask = new Task(taskToMarkDone.getName(), taskToMarkDone.getStartTimeWrapper(),
                 taskToMarkDone.getDeadline(), taskToMarkDone.getModule(), taskToMarkDone.getDescription(),
                 taskToMarkDone.getWorkload(), new DoneStatus(true), taskToMarkDone.getRecurrenceWrapper(),
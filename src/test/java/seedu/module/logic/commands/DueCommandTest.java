@@ -0,0 +1,76 @@
+package seedu.module.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.module.testutil.TypicalTasks.PAQ;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.UserPrefs;
+import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DueCommand}.
+ */
+public class DueCommandTest {
+    private Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        DueCommand firstCommand = new DueCommand(new Time("2021-03-01"), new Time("2021-03-07"));
+        DueCommand secondCommand = new DueCommand(new Time("2021-03-01"), new Time("2021-03-08"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new DueCommand(new Time("2021-03-01"), new Time("2021-03-07"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noTaskInRange_noTaskFound() {
+        Time from = new Time("2020-01-01");
+        Time to = new Time("2020-01-31 23:59");
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredTaskList(task -> isDueBetween(task, from, to));
+        assertCommandSuccess(new DueCommand(from, to), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksInRange_tasksOnBoundsFound() {
+        // PROJECT is due at the start of the range, and PAQ at the end of it
+        Time from = new Time("2021-02-28 23:59");
+        Time to = new Time("2021-03-05 23:59");
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredTaskList(task -> isDueBetween(task, from, to));
+        assertCommandSuccess(new DueCommand(from, to), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TUTORIAL, PROJECT, PAQ), model.getFilteredTaskList());
+    }
+
+    private static boolean isDueBetween(Task task, Time from, Time to) {
+        return task.getDeadline().compareTo(from) >= 0 && task.getDeadline().compareTo(to) <= 0;
+    }
+}
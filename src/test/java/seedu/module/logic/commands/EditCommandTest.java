@@ -142,6 +142,7 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_TASK_SUCCESS, editedTask);
 
         Model expectedModel = new ModelManager(new ModuleBook(model.getModuleBook()), new UserPrefs());
+        showTaskAtIndex(expectedModel, INDEX_FIRST_TASK);
         expectedModel.setTask(model.getFilteredTaskList().get(0), editedTask);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
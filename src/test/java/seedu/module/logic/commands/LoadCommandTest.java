@@ -0,0 +1,70 @@
+package seedu.module.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LoadCommand}.
+ */
+public class LoadCommandTest {
+    private Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LoadCommand firstCommand = new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 7));
+        LoadCommand secondCommand = new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 8));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 7))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noWorkloadInRange_noWorkloadShown() {
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2020, 1, 31);
+        String expectedMessage = String.format(LoadCommand.MESSAGE_NO_WORKLOAD, from, to);
+        assertCommandSuccess(new LoadCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_workloadInRange_totalAndBusiestWeekShown() {
+        // QUIZ: 1 on 2021-02-01, PROJECT: 3 on 2021-02-28, TUTORIAL: 2 on 2021-03-02, OP: 2 on 2021-04-02
+        LocalDate from = LocalDate.of(2021, 2, 1);
+        LocalDate to = LocalDate.of(2021, 3, 31);
+        String expectedMessage = String.format(LoadCommand.MESSAGE_WORKLOAD, from, to, 6,
+                LocalDate.of(2021, 2, 22), LocalDate.of(2021, 2, 28), 3);
+        assertCommandSuccess(new LoadCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_busiestWeekPartlyInRange_weekClippedToRange() {
+        LocalDate from = LocalDate.of(2021, 3, 2);
+        LocalDate to = LocalDate.of(2021, 4, 2);
+        String expectedMessage = String.format(LoadCommand.MESSAGE_WORKLOAD, from, to, 4,
+                from, LocalDate.of(2021, 3, 7), 2);
+        assertCommandSuccess(new LoadCommand(from, to), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.module.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.ModuleBook;
+import seedu.module.model.UserPrefs;
+import seedu.module.model.task.DoneStatus;
+import seedu.module.model.task.Task;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code NextCommand}.
+ */
+public class NextCommandTest {
+    private Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NextCommand(0));
+    }
+
+    @Test
+    public void equals() {
+        NextCommand firstCommand = new NextCommand(3);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new NextCommand(3)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different limit -> returns false
+        assertFalse(firstCommand.equals(new NextCommand(4)));
+    }
+
+    @Test
+    public void execute_tasksLeft_nextTasksListed() {
+        // QUIZ: 1 on 2021-02-01, PROJECT: 3 on 2021-02-28, TUTORIAL: 2 on 2021-03-02
+        String expectedMessage = String.format(NextCommand.MESSAGE_NEXT_TASKS, 2)
+                + String.format(NextCommand.MESSAGE_NEXT_TASK, 1, QUIZ.getName(), QUIZ.getModule(),
+                        QUIZ.getDeadline())
+                + String.format(NextCommand.MESSAGE_NEXT_TASK, 2, PROJECT.getName(), PROJECT.getModule(),
+                        PROJECT.getDeadline());
+        expectedModel.showTasksInOrder(List.of(QUIZ, PROJECT));
+        assertCommandSuccess(new NextCommand(2), model, expectedMessage, expectedModel);
+        assertEquals(List.of(QUIZ, PROJECT), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_rankDiffersFromListOrder_tasksShownInRankOrder() {
+        // TUTORIAL comes before PROJECT in the module book, but PROJECT has more workload and ranks higher
+        model.sortTasks(new Task.NameComparator());
+        new NextCommand(3).execute(model);
+        assertEquals(List.of(QUIZ, PROJECT, TUTORIAL), model.getFilteredTaskList());
+
+        // listing all tasks again -> previous sort order restored
+        new ListCommand().execute(model);
+        expectedModel.sortTasks(new Task.NameComparator());
+        assertEquals(expectedModel.getFilteredTaskList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_taskMarkedDone_nextTaskListedInstead() {
+        model.setTask(QUIZ, Task.setDoneStatus(QUIZ, DoneStatus.DONE));
+        new NextCommand(1).execute(model);
+        assertEquals(List.of(PROJECT), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_allTasksDone_noTasksListed() {
+        Model emptyModel = new ModelManager(new ModuleBook(), new UserPrefs());
+        Model expectedEmptyModel = new ModelManager(new ModuleBook(), new UserPrefs());
+        assertCommandSuccess(new NextCommand(3), emptyModel, NextCommand.MESSAGE_NO_TASKS, expectedEmptyModel);
+    }
+}
@@ -90,6 +90,7 @@ public class NotDoneCommandTest {
         NotDoneCommand notDoneCommand = new NotDoneCommand(INDEX_FIRST_TASK);
 
         ModelManager expectedModel = new ModelManager(model.getModuleBook(), new UserPrefs());
+        showTaskAtIndex(expectedModel, INDEX_FIRST_TASK);
         expectedModel.setTask(expectedModel.getFilteredTaskList().get(INDEX_FIRST_TASK.getZeroBased()), originalTask);
 
         String expectedMessage = String.format(NotDoneCommand.MESSAGE_NOT_DONE_TASK_SUCCESS, originalTask);
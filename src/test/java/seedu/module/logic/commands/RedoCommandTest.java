@@ -0,0 +1,51 @@
+package seedu.module.logic.commands;
+
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.module.testutil.TypicalIndexes.INDEX_FIRST_TASK;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.UserPrefs;
+import seedu.module.model.task.DoneStatus;
+import seedu.module.model.task.Task;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+
+    @Test
+    public void execute_noUndoneChanges_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneChanges_success() {
+        Task firstTask = model.getFilteredTaskList().get(INDEX_FIRST_TASK.getZeroBased());
+        model.deleteTask(firstTask);
+        model.commitModuleBook();
+        model.undoModuleBook();
+        expectedModel.deleteTask(firstTask);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // nothing left to redo
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangesAfterUndo_failure() {
+        Task firstTask = model.getFilteredTaskList().get(INDEX_FIRST_TASK.getZeroBased());
+        model.deleteTask(firstTask);
+        model.commitModuleBook();
+        model.undoModuleBook();
+        model.setTask(firstTask, Task.setDoneStatus(firstTask, new DoneStatus(true)));
+        model.commitModuleBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -11,6 +11,10 @@ import static seedu.module.testutil.TypicalTasks.getSortedTypicalModuleBookByTag
 import static seedu.module.testutil.TypicalTasks.getSortedTypicalModuleBookByWorkload;
 import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -49,76 +53,91 @@ class SortCommandTest {
 
     @Test
     public void execute_sortedTaskByDeadline_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.DeadlineComparator()), deadlineSortedModel,
-                "Sorted all tasks by deadline.", deadlineSortedModel);
+        assertSortSuccess(new Task.DeadlineComparator(), deadlineSortedModel,
+            "Sorted all tasks by deadline.", deadlineSortedModel);
     }
 
     @Test
     public void execute_unsortedTaskByDeadline_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.DeadlineComparator()), model,
-                "Sorted all tasks by deadline.", deadlineSortedModel);
+        assertSortSuccess(new Task.DeadlineComparator(), model,
+            "Sorted all tasks by deadline.", deadlineSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByWorkload_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.WorkloadComparator()), workloadSortedModel,
+        assertSortSuccess(new Task.WorkloadComparator(), workloadSortedModel,
             "Sorted all tasks by workload.", workloadSortedModel);
     }
 
     @Test
     public void execute_unsortedTaskByWorkload_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.WorkloadComparator()), model,
+        assertSortSuccess(new Task.WorkloadComparator(), model,
             "Sorted all tasks by workload.", workloadSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByModule_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.ModuleComparator()), moduleSortedModel,
+        assertSortSuccess(new Task.ModuleComparator(), moduleSortedModel,
             "Sorted all tasks by module.", moduleSortedModel);
     }
 
     @Test
     public void execute_unsortedTaskByModule_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.ModuleComparator()), model,
+        assertSortSuccess(new Task.ModuleComparator(), model,
             "Sorted all tasks by module.", moduleSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByName_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.NameComparator()), nameSortedModel,
+        assertSortSuccess(new Task.NameComparator(), nameSortedModel,
             "Sorted all tasks by task name.", nameSortedModel);
     }
 
     @Test
     public void execute_unsortedTaskByName_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.NameComparator()), model,
+        assertSortSuccess(new Task.NameComparator(), model,
             "Sorted all tasks by task name.", nameSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByDescription_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.DescriptionComparator()), descriptionSortedModel,
+        assertSortSuccess(new Task.DescriptionComparator(), descriptionSortedModel,
             "Sorted all tasks by length of description.", descriptionSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByDescription_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.DescriptionComparator()), model,
+        assertSortSuccess(new Task.DescriptionComparator(), model,
             "Sorted all tasks by length of description.", descriptionSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByNumberOfTags_showsSameList() {
-        assertCommandSuccess(new SortCommand(new Task.TagComparator()), tagSortedModel,
+        assertSortSuccess(new Task.TagComparator(), tagSortedModel,
             "Sorted all tasks by number of tags.", tagSortedModel);
     }
 
     @Test
     public void execute_sortedTaskByNumberOfTags_showsSortedList() {
-        assertCommandSuccess(new SortCommand(new Task.TagComparator()), model,
+        assertSortSuccess(new Task.TagComparator(), model,
             "Sorted all tasks by number of tags.", tagSortedModel);
     }
 
+    @Test
+    public void execute_severalFactors_tiesBrokenByLaterFactors() {
+        List<Comparator<Task>> factors = List.of(new Task.WorkloadComparator(), new Task.DeadlineComparator(),
+                new Task.NameComparator());
+        SortCommand sortCommand = new SortCommand(factors);
+        CommandResult result = sortCommand.execute(model);
+
+        assertEquals("Sorted all tasks by workload, then deadline, then task name.", result.getFeedbackToUser());
+        List<Task> expectedTasks = model.getModuleBook().getTaskList().stream()
+                .sorted(new Task.WorkloadComparator().thenComparing(new Task.DeadlineComparator())
+                        .thenComparing(new Task.NameComparator()))
+                .collect(Collectors.toList());
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+    }
+
     @Test
     public void equals() {
         assertEquals(tagSortCommand, tagSortCommand);
@@ -169,6 +188,28 @@ class SortCommandTest {
 
         assertNotEquals(workloadSortCommand, new SortCommand(new Task.TagComparator()));
 
+        // several factors -> same factors in the same order
+        SortCommand workloadThenNameSortCommand = new SortCommand(List.of(new Task.WorkloadComparator(),
+                new Task.NameComparator()));
+        assertEquals(workloadThenNameSortCommand, new SortCommand(List.of(new Task.WorkloadComparator(),
+                new Task.NameComparator())));
+        assertNotEquals(workloadThenNameSortCommand, new SortCommand(List.of(new Task.NameComparator(),
+                new Task.WorkloadComparator())));
+        assertNotEquals(workloadThenNameSortCommand, workloadSortCommand);
+
     }
 
+
+    /**
+     * Executes a {@code SortCommand} with {@code factor} on {@code model}, and confirms that the command succeeds
+     * and that the displayed tasks are in the same order as the tasks of {@code sortedModel}, while the module book
+     * of {@code model} itself is left unchanged.
+     */
+    private void assertSortSuccess(Comparator<Task> factor, Model model, String expectedMessage,
+                                   Model sortedModel) {
+        Model expectedModel = new ModelManager(model.getModuleBook(), new UserPrefs());
+        expectedModel.sortTasks(factor);
+        assertCommandSuccess(new SortCommand(factor), model, expectedMessage, expectedModel);
+        assertEquals(sortedModel.getModuleBook().getTaskList(), model.getFilteredTaskList());
+    }
 }
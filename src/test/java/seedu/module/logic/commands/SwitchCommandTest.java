@@ -0,0 +1,51 @@
+package seedu.module.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.UserPrefs;
+
+public class SwitchCommandTest {
+
+    private final Path filePath = Paths.get("data", "semester2.json");
+
+    @Test
+    public void execute_validFilePath_requestsSwitchWithoutChangingModel() {
+        Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+        CommandResult expectedResult = new CommandResult(String.format(SwitchCommand.MESSAGE_SUCCESS, filePath),
+                filePath);
+
+        assertEquals(expectedResult, new SwitchCommand(filePath).execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchCommand = new SwitchCommand(filePath);
+
+        // same object -> returns true
+        assertTrue(switchCommand.equals(switchCommand));
+
+        // same values -> returns true
+        assertTrue(switchCommand.equals(new SwitchCommand(Paths.get("data", "semester2.json"))));
+
+        // different types -> returns false
+        assertFalse(switchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(switchCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(switchCommand.equals(new SwitchCommand(Paths.get("data", "semester1.json"))));
+    }
+}
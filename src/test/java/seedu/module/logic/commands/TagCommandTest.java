@@ -128,6 +128,7 @@ class TagCommandTest {
         String expectedMessage = String.format(TagCommand.MESSAGE_TAG_TASK_SUCCESS, editedTask);
 
         Model expectedModel = new ModelManager(new ModuleBook(model.getModuleBook()), new UserPrefs());
+        showTaskAtIndex(expectedModel, INDEX_FIRST_TASK);
         expectedModel.setTask(firstTask, editedTask);
 
         assertCommandSuccess(tagCommand, model, expectedMessage, expectedModel);
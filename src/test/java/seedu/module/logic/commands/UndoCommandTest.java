@@ -0,0 +1,39 @@
+package seedu.module.logic.commands;
+
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.module.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.module.logic.commands.CommandTestUtil.showTaskAtIndex;
+import static seedu.module.testutil.TypicalIndexes.INDEX_FIRST_TASK;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.Model;
+import seedu.module.model.ModelManager;
+import seedu.module.model.UserPrefs;
+import seedu.module.model.task.Task;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalModuleBook(), new UserPrefs());
+
+    @Test
+    public void execute_noCommittedChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedChanges_success() {
+        Task firstTask = model.getFilteredTaskList().get(INDEX_FIRST_TASK.getZeroBased());
+        model.deleteTask(firstTask);
+        model.commitModuleBook();
+        showTaskAtIndex(model, INDEX_FIRST_TASK);
+
+        // filter is reset
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // nothing left to undo
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.logic.commands.DueCommand;
+import seedu.module.model.task.Time;
+
+public class DueCommandParserTest {
+
+    private DueCommandParser parser = new DueCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_wrongNumberOfTimes_throwsParseException() {
+        assertParseFailure(parser, "2021-03-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2021-03-01 2021-03-02 2021-03-03",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTime_throwsParseException() {
+        assertParseFailure(parser, "2021-03-01 2021-13-01", Time.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, "2021-03-07 2021-03-01", DueCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_datesOnly_endCoversWholeDay() {
+        assertParseSuccess(parser, "2021-03-01 2021-03-07",
+                new DueCommand(new Time("2021-03-01"), new Time("2021-03-07 23:59")));
+
+        // same day
+        assertParseSuccess(parser, " 2021-03-01   2021-03-01 ",
+                new DueCommand(new Time("2021-03-01"), new Time("2021-03-01 23:59")));
+    }
+
+    @Test
+    public void parse_datesWithTimes_returnsDueCommand() {
+        assertParseSuccess(parser, "2021-03-01 08:00 2021-03-07 12:30",
+                new DueCommand(new Time("2021-03-01 08:00"), new Time("2021-03-07 12:30")));
+        assertParseSuccess(parser, "2021-03-01 2021-03-07 12:30",
+                new DueCommand(new Time("2021-03-01"), new Time("2021-03-07 12:30")));
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.logic.commands.LoadCommand;
+import seedu.module.model.task.Time;
+
+public class LoadCommandParserTest {
+
+    private LoadCommandParser parser = new LoadCommandParser();
+
+    @Test
+    public void parse_wrongNumberOfDates_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2021-03-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "2021-03-01 12:00 2021-03-02",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "2021-03-01 2021-13-01", Time.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, "2021-03-07 2021-03-01", LoadCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_validArgs_returnsLoadCommand() {
+        assertParseSuccess(parser, " 2021-03-01   2021-03-31 ",
+                new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31)));
+
+        // same day
+        assertParseSuccess(parser, "2021-03-01 2021-03-01",
+                new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 1)));
+    }
+}
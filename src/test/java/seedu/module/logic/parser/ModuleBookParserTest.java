@@ -7,6 +7,8 @@ import static seedu.module.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.module.testutil.Assert.assertThrows;
 import static seedu.module.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +23,7 @@ import seedu.module.logic.commands.CommandTestUtil;
 import seedu.module.logic.commands.DeleteCommand;
 import seedu.module.logic.commands.DeleteTagCommand;
 import seedu.module.logic.commands.DoneCommand;
+import seedu.module.logic.commands.DueCommand;
 import seedu.module.logic.commands.EditCommand;
 import seedu.module.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.module.logic.commands.ExitCommand;
@@ -29,14 +32,20 @@ import seedu.module.logic.commands.FindModuleCommand;
 import seedu.module.logic.commands.FindTagCommand;
 import seedu.module.logic.commands.HelpCommand;
 import seedu.module.logic.commands.ListCommand;
+import seedu.module.logic.commands.LoadCommand;
+import seedu.module.logic.commands.NextCommand;
 import seedu.module.logic.commands.NotDoneCommand;
+import seedu.module.logic.commands.RedoCommand;
 import seedu.module.logic.commands.RefreshCommand;
 import seedu.module.logic.commands.SortCommand;
+import seedu.module.logic.commands.SwitchCommand;
 import seedu.module.logic.commands.TagCommand;
+import seedu.module.logic.commands.UndoCommand;
 import seedu.module.logic.parser.exceptions.ParseException;
 import seedu.module.model.tag.Tag;
 import seedu.module.model.task.NameContainsKeywordsPredicate;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 import seedu.module.testutil.EditTaskDescriptorBuilder;
 import seedu.module.testutil.TaskBuilder;
 import seedu.module.testutil.TaskUtil;
@@ -85,6 +94,24 @@ public class ModuleBookParserTest {
         assertEquals(new DoneCommand(INDEX_FIRST_TASK), command);
     }
 
+    @Test
+    public void parseCommand_due() throws Exception {
+        DueCommand command = (DueCommand) parser.parseCommand(DueCommand.COMMAND_WORD + " 2021-03-01 2021-03-07");
+        assertEquals(new DueCommand(new Time("2021-03-01"), new Time("2021-03-07 23:59")), command);
+    }
+
+    @Test
+    public void parseCommand_load() throws Exception {
+        LoadCommand command = (LoadCommand) parser.parseCommand(LoadCommand.COMMAND_WORD + " 2021-03-01 2021-03-07");
+        assertEquals(new LoadCommand(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 7)), command);
+    }
+
+    @Test
+    public void parseCommand_next() throws Exception {
+        NextCommand command = (NextCommand) parser.parseCommand(NextCommand.COMMAND_WORD + " 3");
+        assertEquals(new NextCommand(3), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Task task = new TaskBuilder().build();
@@ -130,6 +157,18 @@ public class ModuleBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_switch() throws Exception {
+        SwitchCommand command = (SwitchCommand) parser.parseCommand(SwitchCommand.COMMAND_WORD + " data/sem2.json");
+        assertEquals(new SwitchCommand(Paths.get("data", "sem2.json")), command);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_mod() throws Exception {
         FindModuleCommand command = (FindModuleCommand) parser.parseCommand(
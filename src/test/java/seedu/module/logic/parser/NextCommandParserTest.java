@@ -0,0 +1,33 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.logic.commands.NextCommand;
+
+public class NextCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE);
+
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "three", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3 4", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "99999999999", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsNextCommand() {
+        assertParseSuccess(parser, "3", new NextCommand(3));
+        assertParseSuccess(parser, "  12  ", new NextCommand(12));
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.module.logic.parser.CliSyntax.PREFIX_WORKLOAD;
 import static seedu.module.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.module.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.module.logic.commands.SortCommand;
@@ -46,8 +48,23 @@ public class SortCommandParserTest {
         // use full name
         assertParseFailure(parser, "deadline/", MESSAGE_INVALID_FORMAT);
 
+        // repeated factor
+        assertParseFailure(parser, VALID_DEADLINE_INPUT + VALID_WORKLOAD_INPUT + VALID_DEADLINE_INPUT,
+                MESSAGE_INVALID_FORMAT);
 
+        // factor with parameter
+        assertParseFailure(parser, VALID_DEADLINE_INPUT + VALID_WORKLOAD_INPUT + "3", MESSAGE_INVALID_FORMAT);
+    }
 
+    @Test
+    public void parse_severalFactors_success() {
+        assertParseSuccess(parser, VALID_DEADLINE_INPUT + VALID_WORKLOAD_INPUT + VALID_TASK_NAME_INPUT,
+                new SortCommand(List.of(new Task.DeadlineComparator(), new Task.WorkloadComparator(),
+                        new Task.NameComparator())));
+
+        // factors are kept in the order given
+        assertParseSuccess(parser, VALID_TAG_INPUT + VALID_MODULE_INPUT,
+                new SortCommand(List.of(new Task.TagComparator(), new Task.ModuleComparator())));
     }
 
     @Test
@@ -0,0 +1,31 @@
+package seedu.module.logic.parser;
+
+import static seedu.module.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.module.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.logic.commands.SwitchCommand;
+
+public class SwitchCommandParserTest {
+    private SwitchCommandParser parser = new SwitchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSwitchCommand() {
+        assertParseSuccess(parser, " data/semester2.json ", new SwitchCommand(Paths.get("data", "semester2.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE);
+
+        // no file
+        assertParseFailure(parser, " ", expectedMessage);
+
+        // not a json file
+        assertParseFailure(parser, "data/semester2.txt", expectedMessage);
+    }
+}
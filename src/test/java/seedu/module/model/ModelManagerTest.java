@@ -2,12 +2,18 @@ package seedu.module.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_DESCRIPTION_PRACTICAL;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_TASK_NAME_PRACTICAL;
 import static seedu.module.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.FINAL;
 import static seedu.module.testutil.TypicalTasks.MIDTERM;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
 import static seedu.module.testutil.TypicalTasks.QUIZ;
 import static seedu.module.testutil.TypicalTasks.RECURRING_MIDTERM;
+import static seedu.module.testutil.TypicalTasks.REVIEW;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,9 +22,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.module.commons.core.GuiSettings;
+import seedu.module.model.task.DoneStatus;
 import seedu.module.model.task.NameContainsKeywordsPredicate;
 import seedu.module.model.task.Task;
 import seedu.module.testutil.ModuleBookBuilder;
+import seedu.module.testutil.TaskBuilder;
 
 public class ModelManagerTest {
 
@@ -31,6 +39,19 @@ public class ModelManagerTest {
         assertEquals(new ModuleBook(), new ModuleBook(modelManager.getModuleBook()));
     }
 
+    @Test
+    public void ofModuleBook_validModuleBook_usesModuleBookWithoutCopying() {
+        ModuleBook moduleBook = new ModuleBookBuilder().withTask(QUIZ).build();
+        UserPrefs userPrefs = new UserPrefs();
+        modelManager = ModelManager.ofModuleBook(moduleBook, userPrefs);
+        assertSame(moduleBook, modelManager.getModuleBook());
+        assertEquals(new ModelManager(moduleBook, userPrefs), modelManager);
+
+        // user prefs are still copied
+        userPrefs.setModuleBookFilePath(Paths.get("differentFilePath"));
+        assertEquals(new UserPrefs(), modelManager.getUserPrefs());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -115,6 +136,145 @@ public class ModelManagerTest {
         assertEquals(MIDTERM, modelManager.getFilteredTaskList().get(1));
     }
 
+    @Test
+    public void sortTasks_tasksInModuleBook_moduleBookOrderUnchanged() {
+        modelManager.addTask(MIDTERM);
+        modelManager.addTask(QUIZ);
+        modelManager.sortTasks(new Task.DeadlineComparator());
+        assertEquals(QUIZ, modelManager.getModuleBook().getTaskList().get(1));
+    }
+
+    @Test
+    public void sortTasks_taskAddedAfterSort_insertedInSortedPosition() {
+        modelManager.addTask(MIDTERM);
+        modelManager.sortTasks(new Task.DeadlineComparator());
+        modelManager.addTask(QUIZ);
+        assertEquals(QUIZ, modelManager.getFilteredTaskList().get(0));
+        assertEquals(QUIZ, modelManager.getModuleBook().getTaskList().get(1));
+    }
+
+    @Test
+    public void showTasks_tasksGiven_onlyTasksShownInCurrentOrder() {
+        modelManager.addTask(FINAL);
+        modelManager.addTask(QUIZ);
+        modelManager.addTask(PROJECT);
+        modelManager.showTasks(Arrays.asList(PROJECT, FINAL));
+        assertEquals(Arrays.asList(FINAL, PROJECT), modelManager.getFilteredTaskList());
+
+        // edited task stays shown
+        Task editedProject = new TaskBuilder(PROJECT).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        modelManager.setTask(PROJECT, editedProject);
+        assertEquals(Arrays.asList(FINAL, editedProject), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void showTasksInOrder_tasksGiven_onlyTasksShownInGivenOrder() {
+        modelManager.addTask(FINAL);
+        modelManager.addTask(QUIZ);
+        modelManager.addTask(PROJECT);
+        modelManager.showTasksInOrder(Arrays.asList(PROJECT, FINAL));
+        assertEquals(Arrays.asList(PROJECT, FINAL), modelManager.getFilteredTaskList());
+
+        // edited task keeps its place, added task shown after the given tasks
+        Task editedProject = Task.setDoneStatus(PROJECT, new DoneStatus(true));
+        modelManager.setTask(PROJECT, editedProject);
+        modelManager.addTask(REVIEW);
+        assertEquals(Arrays.asList(editedProject, FINAL, REVIEW), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void showTasksInOrder_filteredAgain_previousSortOrderRestored() {
+        modelManager.addTask(FINAL);
+        modelManager.addTask(QUIZ);
+        modelManager.sortTasks(new Task.DeadlineComparator());
+        modelManager.showTasksInOrder(Arrays.asList(FINAL, QUIZ));
+        assertEquals(Arrays.asList(FINAL, QUIZ), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(Arrays.asList(QUIZ, FINAL), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void showTasksInOrder_sortedAgain_newSortOrderKept() {
+        modelManager.addTask(QUIZ);
+        modelManager.addTask(FINAL);
+        modelManager.showTasksInOrder(Arrays.asList(FINAL, QUIZ));
+        modelManager.sortTasks(new Task.DeadlineComparator());
+        assertEquals(Arrays.asList(QUIZ, FINAL), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(Arrays.asList(QUIZ, FINAL), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void addTask_filterActive_filterKeptAndTaskShown() {
+        modelManager.addTask(PROJECT);
+        modelManager.addTask(QUIZ);
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        modelManager.addTask(REVIEW);
+        assertEquals(Arrays.asList(QUIZ, REVIEW), modelManager.getFilteredTaskList());
+
+        // filter set again -> added task no longer shown
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        assertEquals(Arrays.asList(QUIZ), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void setTask_shownTaskEditedToNotMatchFilter_editedTaskStillShown() {
+        modelManager.addTask(PROJECT);
+        modelManager.addTask(QUIZ);
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        Task editedQuiz = new TaskBuilder(QUIZ).withName(VALID_TASK_NAME_PRACTICAL).build();
+        modelManager.setTask(QUIZ, editedQuiz);
+        assertEquals(Arrays.asList(editedQuiz), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void setTask_hiddenTaskEdited_editedTaskNotShown() {
+        modelManager.addTask(PROJECT);
+        modelManager.addTask(QUIZ);
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        Task editedProject = new TaskBuilder(PROJECT).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        modelManager.setTask(PROJECT, editedProject);
+        assertEquals(Arrays.asList(QUIZ), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void getVersion_moduleBookChanged_versionIncreased() {
+        long version = modelManager.getVersion();
+        modelManager.addTask(QUIZ);
+        assertTrue(modelManager.getVersion() > version);
+
+        version = modelManager.getVersion();
+        modelManager.deleteTask(QUIZ);
+        assertTrue(modelManager.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_onlyDisplayChanged_versionUnchanged() {
+        modelManager.addTask(QUIZ);
+        long version = modelManager.getVersion();
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        modelManager.sortTasks(new Task.DeadlineComparator());
+        assertEquals(version, modelManager.getVersion());
+    }
+
+    @Test
+    public void switchModuleBook_validModuleBook_replacesModuleBookAndClearsHistory() {
+        modelManager.addTask(QUIZ);
+        modelManager.commitModuleBook();
+        modelManager.updateFilteredTaskList(new NameContainsKeywordsPredicate(Arrays.asList("Quiz")));
+        Path path = Paths.get("semester2.json");
+        ModuleBook moduleBook = new ModuleBookBuilder().withTask(PROJECT).build();
+
+        modelManager.switchModuleBook(path, moduleBook);
+        assertEquals(moduleBook, modelManager.getModuleBook());
+        assertEquals(Arrays.asList(PROJECT), modelManager.getFilteredTaskList());
+        assertEquals(path, modelManager.getModuleBookFilePath());
+        assertFalse(modelManager.canUndoModuleBook());
+        assertEquals(Arrays.asList(PROJECT.getModule()), modelManager.getModuleList());
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTaskList().remove(0));
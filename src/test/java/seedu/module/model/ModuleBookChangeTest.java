@@ -0,0 +1,72 @@
+package seedu.module.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.MIDTERM;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.task.Task;
+
+public class ModuleBookChangeTest {
+
+    @Test
+    public void factories_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ModuleBookChange.added(null));
+        assertThrows(NullPointerException.class, () -> ModuleBookChange.replaced(QUIZ, null));
+        assertThrows(NullPointerException.class, () -> ModuleBookChange.removed(null));
+        assertThrows(NullPointerException.class, () -> ModuleBookChange.reset(null));
+    }
+
+    @Test
+    public void replaced() {
+        ModuleBookChange change = ModuleBookChange.replaced(QUIZ, MIDTERM);
+        assertEquals(ModuleBookChange.Type.REPLACED, change.getType());
+        assertEquals(List.of(QUIZ), change.getRemovedTasks());
+        assertEquals(List.of(MIDTERM), change.getAddedTasks());
+    }
+
+    @Test
+    public void removed() {
+        ModuleBookChange change = ModuleBookChange.removed(QUIZ);
+        assertEquals(ModuleBookChange.Type.REMOVED, change.getType());
+        assertEquals(List.of(QUIZ), change.getRemovedTasks());
+        assertEquals(Collections.emptyList(), change.getAddedTasks());
+    }
+
+    @Test
+    public void getAddedTasks_modifyList_throwsUnsupportedOperationException() {
+        List<Task> tasks = new ArrayList<>(List.of(QUIZ));
+        ModuleBookChange change = ModuleBookChange.added(tasks);
+        tasks.clear();
+        assertEquals(List.of(QUIZ), change.getAddedTasks());
+        assertThrows(UnsupportedOperationException.class, () -> change.getAddedTasks().remove(0));
+    }
+
+    @Test
+    public void equals() {
+        ModuleBookChange change = ModuleBookChange.added(List.of(QUIZ));
+
+        // same values -> returns true
+        assertTrue(change.equals(ModuleBookChange.added(List.of(QUIZ))));
+
+        // same object -> returns true
+        assertTrue(change.equals(change));
+
+        // null -> returns false
+        assertFalse(change.equals(null));
+
+        // different type -> returns false
+        assertFalse(change.equals(ModuleBookChange.reset(List.of(QUIZ))));
+
+        // different tasks -> returns false
+        assertFalse(change.equals(ModuleBookChange.added(List.of(MIDTERM))));
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.module.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_DESCRIPTION_PRACTICAL;
+import static seedu.module.testutil.TypicalTasks.LAB;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.module.model.task.Task;
+import seedu.module.testutil.TaskBuilder;
+
+public class ModuleBookHistoryTest {
+
+    private final ModuleBookHistory history = new ModuleBookHistory();
+    private ModuleBook moduleBook;
+    private List<Task> originalTasks;
+
+    @BeforeEach
+    public void setUp() {
+        moduleBook = getTypicalModuleBook();
+        originalTasks = new ArrayList<>(moduleBook.getTaskList());
+        moduleBook.getTaskList().addListener((ListChangeListener<Task>) history::record);
+    }
+
+    @Test
+    public void canUndo_noChanges_returnsFalse() {
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+
+        // commit without changes -> still nothing to undo
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_taskRemoved_taskRestoredInPlace() {
+        moduleBook.removeTask(TP);
+        history.commit();
+
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+        assertTrue(moduleBook.hasTask(TP));
+        assertFalse(history.canUndo());
+
+        history.redo(moduleBook);
+        assertFalse(moduleBook.hasTask(TP));
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_taskEdited_originalTaskRestored() {
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        moduleBook.setTask(QUIZ, editedQuiz);
+        history.commit();
+
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+
+        history.redo(moduleBook);
+        assertEquals(editedQuiz, moduleBook.getTaskList().get(0));
+    }
+
+    @Test
+    public void undo_severalChangesInOneStep_allChangesUndone() {
+        moduleBook.addTask(LAB);
+        moduleBook.removeTask(QUIZ);
+        history.commit();
+
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+        assertFalse(moduleBook.hasTask(LAB));
+    }
+
+    @Test
+    public void undo_moduleBookReset_tasksAndModuleMappingRestored() {
+        ModuleManager moduleManager = new ModuleManager();
+        moduleManager.insertTasksToMapping(moduleBook.getTaskList());
+        moduleBook.subscribe(moduleManager.newMappingSubscriber(moduleBook));
+        moduleBook.setTasks(new ArrayList<>());
+        history.commit();
+        assertFalse(moduleManager.getMappingOfModulesToTasks().containsKey(QUIZ.getModule()));
+
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+        assertTrue(moduleManager.getMappingOfModulesToTasks().containsKey(QUIZ.getModule()));
+    }
+
+    @Test
+    public void undo_batchedChanges_undoneTogether() {
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        moduleBook.beginBatch();
+        moduleBook.setTask(QUIZ, editedQuiz);
+        moduleBook.removeTask(TP);
+        moduleBook.commitBatch();
+        history.commit();
+
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+    }
+
+    @Test
+    public void undo_batchChangingFewTasks_onlyChangedTasksRestored() {
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        Task editedTp = new TaskBuilder(TP).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        moduleBook.beginBatch();
+        moduleBook.setTask(QUIZ, editedQuiz);
+        moduleBook.setTask(TP, editedTp);
+        moduleBook.commitBatch();
+        history.commit();
+
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+        assertEquals(List.of(ModuleBookChange.updated(List.of(editedTp, editedQuiz), List.of(TP, QUIZ))),
+                collector.changes);
+    }
+
+    @Test
+    public void undo_batchRemovingOneTask_taskRestoredInPlace() {
+        moduleBook.beginBatch();
+        moduleBook.removeTask(TP);
+        moduleBook.commitBatch();
+        history.commit();
+
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+        history.undo(moduleBook);
+        assertEquals(originalTasks, moduleBook.getTaskList());
+        assertEquals(List.of(ModuleBookChange.added(List.of(TP))), collector.changes);
+    }
+
+    @Test
+    public void commit_moreThanMaxSteps_oldestStepsForgotten() {
+        Task task = QUIZ;
+        for (int i = 0; i <= ModuleBookHistory.MAX_STEPS; i++) {
+            Task editedTask = new TaskBuilder(task).withDescription("Step " + i).build();
+            moduleBook.setTask(task, editedTask);
+            history.commit();
+            task = editedTask;
+        }
+
+        for (int i = 0; i < ModuleBookHistory.MAX_STEPS; i++) {
+            history.undo(moduleBook);
+        }
+        assertFalse(history.canUndo());
+        assertEquals("Step 0", moduleBook.getTaskList().get(0).getDescription().value);
+    }
+
+    /**
+     * A subscriber that collects all changes published to it.
+     */
+    private static class ChangeCollector implements Flow.Subscriber<ModuleBookChange> {
+        private final List<ModuleBookChange> changes = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ModuleBookChange change) {
+            changes.add(change);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError("No error should be published", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
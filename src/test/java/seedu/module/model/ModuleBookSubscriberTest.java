@@ -0,0 +1,67 @@
+package seedu.module.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.task.Task;
+
+public class ModuleBookSubscriberTest {
+
+    private final ModuleBook moduleBook = new ModuleBook();
+    private final List<ModuleBookChange> appliedChanges = new ArrayList<>();
+    private final List<List<Task>> rebuilds = new ArrayList<>();
+
+    @Test
+    public void onNext_changeApplied_nextChangeDelivered() {
+        moduleBook.subscribe(new ModuleBookSubscriber("test follower", moduleBook, appliedChanges::add,
+                this::recordRebuild));
+        moduleBook.addTask(QUIZ);
+        moduleBook.removeTask(QUIZ);
+
+        assertEquals(List.of(ModuleBookChange.added(List.of(QUIZ)), ModuleBookChange.removed(QUIZ)), appliedChanges);
+        assertEquals(List.of(), rebuilds);
+    }
+
+    @Test
+    public void onNext_changeFailsToApply_rebuiltAndNextChangeDelivered() {
+        moduleBook.subscribe(new ModuleBookSubscriber("test follower", moduleBook, change -> {
+            if (change.getAddedTasks().contains(TUTORIAL)) {
+                throw new IllegalStateException("Cannot apply change");
+            }
+            appliedChanges.add(change);
+        }, this::recordRebuild));
+        moduleBook.addTask(QUIZ);
+        moduleBook.addTask(TUTORIAL);
+        moduleBook.addTask(TP);
+
+        assertEquals(List.of(List.of(QUIZ, TUTORIAL)), rebuilds);
+        assertEquals(List.of(ModuleBookChange.added(List.of(QUIZ)), ModuleBookChange.added(List.of(TP))),
+                appliedChanges);
+    }
+
+    @Test
+    public void onNext_assertionFails_rebuiltAndNextChangeDelivered() {
+        moduleBook.subscribe(new ModuleBookSubscriber("test follower", moduleBook, change -> {
+            if (change.getAddedTasks().contains(TUTORIAL)) {
+                throw new AssertionError("Change is inconsistent");
+            }
+            appliedChanges.add(change);
+        }, this::recordRebuild));
+        moduleBook.addTask(TUTORIAL);
+        moduleBook.addTask(TP);
+
+        assertEquals(List.of(List.of(TUTORIAL)), rebuilds);
+        assertEquals(List.of(ModuleBookChange.added(List.of(TP))), appliedChanges);
+    }
+
+    private void recordRebuild(List<Task> tasks) {
+        rebuilds.add(List.copyOf(tasks));
+    }
+}
@@ -7,20 +7,28 @@ import static seedu.module.logic.commands.CommandTestUtil.VALID_DESCRIPTION_PRAC
 import static seedu.module.logic.commands.CommandTestUtil.VALID_TAG_PRIORITY_HIGH;
 import static seedu.module.testutil.Assert.assertThrows;
 import static seedu.module.testutil.TypicalTasks.MIDTERM;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
 import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
 import static seedu.module.testutil.TypicalTasks.getTypicalModuleBook;
+import static seedu.module.testutil.TypicalTasks.getTypicalTasks;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.module.model.task.Module;
+import seedu.module.model.tag.Tag;
+import seedu.module.model.task.DoneStatus;
 import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
 import seedu.module.model.task.exceptions.DuplicateTaskException;
 import seedu.module.testutil.TaskBuilder;
 
@@ -57,6 +65,28 @@ public class ModuleBookTest {
         assertThrows(DuplicateTaskException.class, () -> moduleBook.resetData(newData));
     }
 
+    @Test
+    public void addTasks_uniqueTasks_sameAsAddingOneByOne() {
+        ModuleBook expectedModuleBook = new ModuleBook();
+        for (Task task : getTypicalTasks()) {
+            expectedModuleBook.addTask(task);
+        }
+        moduleBook.addTasks(getTypicalTasks());
+        assertEquals(expectedModuleBook, moduleBook);
+    }
+
+    @Test
+    public void addTasks_duplicateTasks_throwsDuplicateTaskException() {
+        moduleBook.addTask(QUIZ);
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        assertThrows(DuplicateTaskException.class, () -> moduleBook.addTasks(Arrays.asList(MIDTERM, editedQuiz)));
+
+        // module book is unchanged
+        ModuleBook expectedModuleBook = new ModuleBook();
+        expectedModuleBook.addTask(QUIZ);
+        assertEquals(expectedModuleBook, moduleBook);
+    }
+
     @Test
     public void hasTask_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> moduleBook.hasTask(null));
@@ -106,21 +136,192 @@ public class ModuleBookTest {
         assertFalse(moduleBook.hasRecurringTask(editedMidterm));
     }
 
+    @Test
+    public void getTasksWithTag_tagIgnoringCase_returnsTaggedTasks() {
+        Task taggedQuiz = new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH).build();
+        moduleBook.addTask(taggedQuiz);
+        moduleBook.addTask(new TaskBuilder(MIDTERM).withTags().build());
+
+        Tag tag = new Tag(VALID_TAG_PRIORITY_HIGH.toUpperCase());
+        assertEquals(Collections.singletonList(taggedQuiz), moduleBook.getTasksWithTag(tag));
+    }
+
+    @Test
+    public void getTasksWithTag_afterSetAndRemove_updated() {
+        Task taggedQuiz = new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH).build();
+        Tag tag = new Tag(VALID_TAG_PRIORITY_HIGH);
+        moduleBook.addTask(taggedQuiz);
+
+        // tag removed by edit
+        Task untaggedQuiz = new TaskBuilder(QUIZ).withTags().build();
+        moduleBook.setTask(taggedQuiz, untaggedQuiz);
+        assertEquals(Collections.emptyList(), moduleBook.getTasksWithTag(tag));
+
+        // tag added back by edit, then task removed
+        moduleBook.setTask(untaggedQuiz, taggedQuiz);
+        assertEquals(Collections.singletonList(taggedQuiz), moduleBook.getTasksWithTag(tag));
+        moduleBook.removeTask(taggedQuiz);
+        assertEquals(Collections.emptyList(), moduleBook.getTasksWithTag(tag));
+    }
+
+    @Test
+    public void getTasksWithTag_afterResetData_updated() {
+        moduleBook.addTask(new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH).build());
+        moduleBook.resetData(new ModuleBook());
+        assertEquals(Collections.emptyList(), moduleBook.getTasksWithTag(new Tag(VALID_TAG_PRIORITY_HIGH)));
+    }
+
+    @Test
+    public void getTasksDueBetween_afterSetTask_usesNewDeadline() {
+        moduleBook.addTask(QUIZ);
+        Task postponedQuiz = new TaskBuilder(QUIZ).withDeadline("2021-05-01 12:00").build();
+        moduleBook.setTask(QUIZ, postponedQuiz);
+
+        assertEquals(Collections.emptyList(),
+                moduleBook.getTasksDueBetween(new Time("2021-02-01"), new Time("2021-02-01 23:59")));
+        assertEquals(Collections.singletonList(postponedQuiz),
+                moduleBook.getTasksDueBetween(new Time("2021-05-01"), new Time("2021-05-01 23:59")));
+    }
+
+    @Test
+    public void snapshot_moduleBookChangedAfterSnapshot_snapshotUnchanged() {
+        moduleBook.addTask(QUIZ);
+        ReadOnlyModuleBook snapshot = moduleBook.snapshot();
+        moduleBook.removeTask(QUIZ);
+        assertEquals(Collections.singletonList(QUIZ), snapshot.getTaskList());
+        assertEquals(Collections.emptyList(), moduleBook.snapshot().getTaskList());
+    }
+
+    @Test
+    public void snapshot_modifyList_throwsUnsupportedOperationException() {
+        moduleBook.addTask(QUIZ);
+        assertThrows(UnsupportedOperationException.class, () -> moduleBook.snapshot().getTaskList().remove(0));
+    }
+
+    @Test
+    public void subscribe_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> moduleBook.subscribe(null));
+    }
+
+    @Test
+    public void subscribe_changesMade_changesPublishedInOrder() {
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+
+        moduleBook.addTask(QUIZ);
+        moduleBook.setTask(QUIZ, editedQuiz);
+        moduleBook.removeTask(editedQuiz);
+        moduleBook.setTasks(List.of(MIDTERM));
+
+        assertEquals(List.of(ModuleBookChange.added(List.of(QUIZ)),
+                ModuleBookChange.replaced(QUIZ, editedQuiz),
+                ModuleBookChange.removed(editedQuiz),
+                ModuleBookChange.reset(List.of(MIDTERM))), collector.changes);
+    }
+
+    @Test
+    public void commitBatch_changesMade_publishedAsOneChange() {
+        moduleBook.addTask(QUIZ);
+        moduleBook.addTask(PROJECT);
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        Task doneQuiz = Task.setDoneStatus(editedQuiz, new DoneStatus(true));
+
+        moduleBook.beginBatch();
+        moduleBook.setTask(QUIZ, editedQuiz);
+        moduleBook.beginBatch();
+        moduleBook.setTask(editedQuiz, doneQuiz);
+        moduleBook.removeTask(PROJECT);
+        moduleBook.addTask(TP);
+        moduleBook.commitBatch();
+        assertEquals(Collections.emptyList(), collector.changes);
+
+        moduleBook.addTask(TUTORIAL);
+        moduleBook.removeTask(TUTORIAL);
+        moduleBook.commitBatch();
+        assertEquals(List.of(ModuleBookChange.updated(List.of(QUIZ, PROJECT), List.of(doneQuiz, TP))),
+                collector.changes);
+    }
+
+    @Test
+    public void commitBatch_tasksReset_publishedAsOneReset() {
+        moduleBook.addTask(QUIZ);
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+
+        moduleBook.beginBatch();
+        moduleBook.removeTask(QUIZ);
+        moduleBook.setTasks(List.of(PROJECT));
+        moduleBook.addTask(TP);
+        moduleBook.commitBatch();
+        assertEquals(List.of(ModuleBookChange.reset(List.of(PROJECT, TP))), collector.changes);
+    }
+
+    @Test
+    public void addTasks_batchInProgress_earlierChangesKept() {
+        moduleBook.addTask(QUIZ);
+        moduleBook.beginBatch();
+        moduleBook.removeTask(QUIZ);
+        moduleBook.addTask(PROJECT);
+        moduleBook.addTasks(List.of(TP));
+        moduleBook.commitBatch();
+        assertEquals(List.of(PROJECT, TP), moduleBook.getTaskList());
+    }
+
+    @Test
+    public void subscribe_duplicateTask_nothingPublished() {
+        moduleBook.addTask(QUIZ);
+        ChangeCollector collector = new ChangeCollector();
+        moduleBook.subscribe(collector);
+
+        assertThrows(DuplicateTaskException.class, () -> moduleBook.addTask(QUIZ));
+        assertEquals(Collections.emptyList(), collector.changes);
+    }
+
     @Test
     public void getTaskList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> moduleBook.getTaskList().remove(0));
     }
 
+    /**
+     * A subscriber that collects all changes published to it.
+     */
+    private static class ChangeCollector implements Flow.Subscriber<ModuleBookChange> {
+        private final List<ModuleBookChange> changes = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ModuleBookChange change) {
+            changes.add(change);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError("No error should be published", throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
     /**
      * A stub ReadOnlyModuleBook whose tasks list can violate interface constraints.
      */
     private static class ModuleBookStub implements ReadOnlyModuleBook {
         private final ObservableList<Task> tasks = FXCollections.observableArrayList();
-        private final ObservableList<Module> modules = FXCollections.observableArrayList();
 
         ModuleBookStub(Collection<Task> tasks) {
             this.tasks.setAll(tasks);
-            this.modules.setAll(ModuleManager.getExistingModuleList());
         }
 
         @Override
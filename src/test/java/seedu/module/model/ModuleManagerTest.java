@@ -2,11 +2,17 @@ package seedu.module.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_DESCRIPTION_PRACTICAL;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_TAG_PRIORITY_HIGH;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_TASK_NAME_PRACTICAL;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_WORKLOAD_1;
+import static seedu.module.logic.commands.CommandTestUtil.VALID_WORKLOAD_2;
 import static seedu.module.testutil.Assert.assertThrows;
 import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+import static seedu.module.testutil.TypicalTasks.getTypicalTasks;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,6 +21,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import javafx.scene.chart.PieChart;
 import seedu.module.model.task.Task;
 import seedu.module.testutil.TaskBuilder;
 
@@ -24,21 +33,7 @@ public class ModuleManagerTest {
 
     @Test
     public void constructor() {
-        assertEquals(Collections.emptyMap(), ModuleManager.getMappingOfModulesToTasks());
-    }
-
-    @Test
-    public void initSupportedModules_comparedToStub() {
-        List<String> stub = new ArrayList<>();
-        stub.add("ST3131");
-        stub.add("ST4332");
-        assertNotEquals(stub, ModuleManager.getListOfSupportingModules());
-    }
-
-    @Test
-    public void moduleIsValid_methodTest() {
-        String fakeModule = "CSG21033GG@T";
-        assertFalse(ModuleManager.moduleIsValid(fakeModule));
+        assertEquals(Collections.emptyMap(), moduleManager.getMappingOfModulesToTasks());
     }
 
     @Test
@@ -46,26 +41,142 @@ public class ModuleManagerTest {
         Task editedQuiz = new TaskBuilder(QUIZ)
                 .withDescription(VALID_DESCRIPTION_PRACTICAL)
                 .withTags(VALID_TAG_PRIORITY_HIGH).build();
-        assertThrows(NullPointerException.class, () -> ModuleManager.insertTaskToMapping(null, editedQuiz));
-        ModuleManager.rebuildMapping();
+        assertThrows(NullPointerException.class, () -> moduleManager.insertTaskToMapping(null, editedQuiz));
     }
 
     @Test
-    public void deletingNullModuleFromMappingWithTask_throwsNullPointerException() {
+    public void clearMapping_test() {
         Task editedQuiz = new TaskBuilder(QUIZ)
                 .withDescription(VALID_DESCRIPTION_PRACTICAL)
                 .withTags(VALID_TAG_PRIORITY_HIGH).build();
-        assertThrows(NullPointerException.class, () -> ModuleManager.insertTaskToMapping(null, editedQuiz));
-        ModuleManager.rebuildMapping();
+        moduleManager.insertTaskToMapping(editedQuiz.getModule(), editedQuiz);
+        moduleManager.rebuildMapping();
+        assertEquals(moduleManager.getMappingOfModulesToTasks(), new HashMap<>());
+        assertEquals(0, moduleManager.getModuleWorkload(QUIZ.getModule()));
+        assertEquals(Collections.emptyList(), moduleManager.getModulePieChartData());
     }
 
     @Test
-    public void clearMapping_test() {
-        Task editedQuiz = new TaskBuilder(QUIZ)
-                .withDescription(VALID_DESCRIPTION_PRACTICAL)
-                .withTags(VALID_TAG_PRIORITY_HIGH).build();
-        ModuleManager.insertTaskToMapping(editedQuiz.getModule(), editedQuiz);
-        ModuleManager.rebuildMapping();
-        assertEquals(ModuleManager.getMappingOfModulesToTasks(), new HashMap<>());
+    public void insertTasksToMapping_multipleTasks_sameAsInsertingOneByOne() {
+        for (Task task : getTypicalTasks()) {
+            moduleManager.insertTaskToMapping(task.getModule(), task);
+        }
+        ModuleManager otherModuleManager = new ModuleManager();
+        otherModuleManager.insertTasksToMapping(getTypicalTasks());
+        assertEquals(moduleManager.getMappingOfModulesToTasks(), otherModuleManager.getMappingOfModulesToTasks());
+        assertEquals(moduleManager.getExistingModuleList(), otherModuleManager.getExistingModuleList());
+    }
+
+    @Test
+    public void insertTaskToMapping_workloadCountersUpdated() {
+        Task lowQuiz = new TaskBuilder(QUIZ).withWorkload(VALID_WORKLOAD_1).build();
+        Task highReview = new TaskBuilder(QUIZ).withName(VALID_TASK_NAME_PRACTICAL).withWorkload("3").build();
+        moduleManager.insertTaskToMapping(lowQuiz.getModule(), lowQuiz);
+        moduleManager.insertTaskToMapping(highReview.getModule(), highReview);
+
+        assertEquals(4, moduleManager.getModuleWorkload(QUIZ.getModule()));
+        assertEquals("low workload tasks: 1\nmedium workload tasks: 0\nhigh workload tasks: 1\n",
+                moduleManager.getModuleWorkloadInformation(QUIZ.getModule()));
+        assertEquals(4, moduleManager.getModulePieChartData().get(0).getPieValue());
+
+        moduleManager.deleteTaskFromMapping(highReview.getModule(), highReview);
+        assertEquals(1, moduleManager.getModuleWorkload(QUIZ.getModule()));
+        assertEquals("low workload tasks: 1\nmedium workload tasks: 0\nhigh workload tasks: 0\n",
+                moduleManager.getModuleWorkloadInformation(QUIZ.getModule()));
+    }
+
+    @Test
+    public void insertTaskToMapping_separateModuleManagers_independent() {
+        moduleManager.insertTaskToMapping(QUIZ.getModule(), QUIZ);
+        ModuleManager otherModuleManager = new ModuleManager();
+        assertEquals(Collections.emptyMap(), otherModuleManager.getMappingOfModulesToTasks());
+        assertEquals(0, otherModuleManager.getModuleWorkload(QUIZ.getModule()));
+    }
+
+    @Test
+    public void beginBatch_changesInBatch_refreshedOnCommit() {
+        moduleManager.beginBatch();
+        moduleManager.insertTaskToMapping(QUIZ.getModule(), QUIZ);
+        assertEquals(Collections.emptyList(), moduleManager.getExistingModuleList());
+
+        moduleManager.commitBatch();
+        assertEquals(List.of(QUIZ.getModule()), moduleManager.getExistingModuleList());
+    }
+
+    @Test
+    public void insertTaskToMapping_moduleWithTasks_pieSliceUpdatedInPlace() {
+        moduleManager.insertTaskToMapping(QUIZ.getModule(), QUIZ);
+        PieChart.Data pieSlice = moduleManager.getModulePieChartData().get(0);
+
+        Task otherQuiz = new TaskBuilder(QUIZ).withName(VALID_TASK_NAME_PRACTICAL).build();
+        moduleManager.insertTaskToMapping(otherQuiz.getModule(), otherQuiz);
+        assertEquals(List.of(pieSlice), moduleManager.getModulePieChartData());
+        assertSame(pieSlice, moduleManager.getModulePieChartData().get(0));
+        assertEquals(moduleManager.getModuleWorkload(QUIZ.getModule()), pieSlice.getPieValue());
+        assertEquals(List.of(QUIZ.getModule()), moduleManager.getExistingModuleList());
+
+        // last task of the module removed -> entries removed
+        moduleManager.deleteTaskFromMapping(QUIZ.getModule(), QUIZ);
+        moduleManager.deleteTaskFromMapping(otherQuiz.getModule(), otherQuiz);
+        assertEquals(Collections.emptyList(), moduleManager.getModulePieChartData());
+        assertEquals(Collections.emptyList(), moduleManager.getExistingModuleList());
+    }
+
+    @Test
+    public void applyChange_onlyTaskOfModuleReplaced_pieSliceKept() {
+        moduleManager.insertTaskToMapping(QUIZ.getModule(), QUIZ);
+        PieChart.Data pieSlice = moduleManager.getModulePieChartData().get(0);
+        List<Change<? extends PieChart.Data>> pieChartChanges = new ArrayList<>();
+        moduleManager.getModulePieChartData().addListener(
+                (ListChangeListener<PieChart.Data>) change -> pieChartChanges.add(change));
+
+        Task editedQuiz = new TaskBuilder(QUIZ).withWorkload(VALID_WORKLOAD_2).build();
+        moduleManager.applyChange(ModuleBookChange.replaced(QUIZ, editedQuiz));
+        assertSame(pieSlice, moduleManager.getModulePieChartData().get(0));
+        assertEquals(moduleManager.getModuleWorkload(QUIZ.getModule()), pieSlice.getPieValue());
+
+        moduleManager.applyChange(ModuleBookChange.reset(List.of(QUIZ)));
+        assertSame(pieSlice, moduleManager.getModulePieChartData().get(0));
+        assertEquals(Collections.emptyList(), pieChartChanges);
+    }
+
+    @Test
+    public void applyChange_changesInOrder_mappingUpdated() {
+        moduleManager.applyChange(ModuleBookChange.reset(List.of(QUIZ)));
+        assertEquals(List.of(QUIZ), moduleManager.getMappingOfModulesToTasks().get(QUIZ.getModule()));
+
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        moduleManager.applyChange(ModuleBookChange.replaced(QUIZ, editedQuiz));
+        assertEquals(List.of(editedQuiz), moduleManager.getMappingOfModulesToTasks().get(QUIZ.getModule()));
+
+        moduleManager.applyChange(ModuleBookChange.removed(editedQuiz));
+        assertFalse(moduleManager.getMappingOfModulesToTasks().containsKey(QUIZ.getModule()));
+    }
+
+    @Test
+    public void newMappingSubscriber_subscribedToModuleBook_followsChanges() {
+        ModuleBook moduleBook = new ModuleBook();
+        moduleBook.subscribe(moduleManager.newMappingSubscriber(moduleBook));
+        moduleBook.addTask(QUIZ);
+        assertEquals(List.of(QUIZ.getModule()), moduleManager.getExistingModuleList());
+
+        moduleBook.removeTask(QUIZ);
+        assertEquals(Collections.emptyList(), moduleManager.getExistingModuleList());
+    }
+
+    @Test
+    public void newMappingSubscriber_changeFailsToApply_mappingsRebuiltAndChangesStillFollowed() {
+        ModuleBook moduleBook = new ModuleBook();
+        moduleBook.subscribe(moduleManager.newMappingSubscriber(moduleBook));
+        moduleBook.addTask(QUIZ);
+        moduleBook.addTask(TUTORIAL);
+
+        // mappings out of sync with the module book -> removing QUIZ fails to apply
+        moduleManager.rebuildMapping();
+        moduleBook.removeTask(QUIZ);
+        assertEquals(List.of(TUTORIAL.getModule()), moduleManager.getExistingModuleList());
+
+        moduleBook.addTask(TP);
+        assertEquals(List.of(TP), moduleManager.getMappingOfModulesToTasks().get(TP.getModule()));
     }
 }
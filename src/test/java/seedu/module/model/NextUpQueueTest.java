@@ -0,0 +1,116 @@
+package seedu.module.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.OP;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.task.DoneStatus;
+import seedu.module.model.task.Task;
+import seedu.module.model.task.Time;
+import seedu.module.testutil.TaskBuilder;
+
+public class NextUpQueueTest {
+
+    private final NextUpQueue queue = new NextUpQueue();
+
+    @Test
+    public void getNextTasks_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> queue.getNextTasks(-1));
+    }
+
+    @Test
+    public void getNextTasks_noTasks_returnsEmptyList() {
+        assertEquals(List.of(), queue.getNextTasks(3));
+    }
+
+    @Test
+    public void getNextTasks_tasksAdded_rankedByDeadlineAndWorkload() {
+        // QUIZ: 1 on 2021-02-01, PROJECT: 3 on 2021-02-28, TUTORIAL: 2 on 2021-03-02, OP: 2 on 2021-04-02, TP is done
+        List.of(OP, TP, TUTORIAL, QUIZ, PROJECT).forEach(queue::addTask);
+
+        assertEquals(4, queue.size());
+        assertEquals(List.of(QUIZ, PROJECT, TUTORIAL, OP), queue.getNextTasks(10));
+        assertEquals(List.of(QUIZ, PROJECT), queue.getNextTasks(2));
+        assertEquals(List.of(), queue.getNextTasks(0));
+    }
+
+    @Test
+    public void getNextTasks_higherWorkload_getsHeadstart() {
+        Task lightTask = new TaskBuilder(QUIZ).withDeadline("2021-03-01 12:00").withWorkload("1").build();
+        Task heavyTask = new TaskBuilder(PROJECT).withDeadline("2021-03-02 12:00").withWorkload("3").build();
+        Task mediumTask = new TaskBuilder(TUTORIAL).withDeadline("2021-03-01 13:00").withWorkload("2").build();
+        List.of(lightTask, heavyTask, mediumTask).forEach(queue::addTask);
+
+        // heavyTask is due a day after lightTask, but two workload levels higher
+        assertEquals(List.of(heavyTask, mediumTask, lightTask), queue.getNextTasks(3));
+    }
+
+    @Test
+    public void removeTask_taskRemoved_notRanked() {
+        List.of(QUIZ, PROJECT, TUTORIAL, OP).forEach(queue::addTask);
+        queue.removeTask(QUIZ);
+        queue.removeTask(TUTORIAL);
+
+        // not in the queue -> does nothing
+        queue.removeTask(TP);
+        queue.removeTask(new TaskBuilder(PROJECT).build());
+
+        assertEquals(List.of(PROJECT, OP), queue.getNextTasks(10));
+    }
+
+    @Test
+    public void applyChange_taskMarkedDone_taskRemoved() {
+        List.of(QUIZ, PROJECT, TUTORIAL).forEach(queue::addTask);
+        queue.applyChange(ModuleBookChange.replaced(QUIZ, Task.setDoneStatus(QUIZ, DoneStatus.DONE)));
+        assertEquals(List.of(PROJECT, TUTORIAL), queue.getNextTasks(10));
+    }
+
+    @Test
+    public void applyChange_deadlineMoved_taskReranked() {
+        List.of(QUIZ, PROJECT, TUTORIAL).forEach(queue::addTask);
+        Task postponedQuiz = new TaskBuilder(QUIZ).withDeadline("2021-05-01").build();
+        queue.applyChange(ModuleBookChange.replaced(QUIZ, postponedQuiz));
+        assertEquals(List.of(PROJECT, TUTORIAL, postponedQuiz), queue.getNextTasks(10));
+    }
+
+    @Test
+    public void applyChange_reset_tasksReplaced() {
+        List.of(QUIZ, PROJECT).forEach(queue::addTask);
+        queue.applyChange(ModuleBookChange.reset(List.of(TUTORIAL, OP, TP)));
+        assertEquals(List.of(TUTORIAL, OP), queue.getNextTasks(10));
+    }
+
+    @Test
+    public void getNextTasks_manyChanges_sameAsSortingAllTasks() {
+        Random random = new Random(2103);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Task task = new TaskBuilder(QUIZ).withName("Task " + i)
+                    .withDeadline(new Time("2021-03-01").plusDays(random.nextInt(60)).toString())
+                    .withWorkload(String.valueOf(1 + random.nextInt(3))).build();
+            tasks.add(task);
+            queue.addTask(task);
+        }
+        for (int i = 0; i < 100; i++) {
+            queue.removeTask(tasks.remove(random.nextInt(tasks.size())));
+        }
+
+        List<Task> expectedTasks = tasks.stream()
+                .sorted(Comparator.comparingLong(NextUpQueue::scoreOf).thenComparingLong(Task::getId))
+                .collect(Collectors.toList());
+        assertEquals(expectedTasks.subList(0, 50), queue.getNextTasks(50));
+        assertEquals(expectedTasks, queue.getNextTasks(1000));
+    }
+}
@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setModuleBookFilePath(null));
     }
 
+    @Test
+    public void setModuleCatalogFilePath_nullPath_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setModuleCatalogFilePath(null));
+    }
+
+    @Test
+    public void setMaxOpenModuleBooks_lessThanOne_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxOpenModuleBooks(0));
+    }
+
 }
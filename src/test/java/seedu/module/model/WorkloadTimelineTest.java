@@ -0,0 +1,152 @@
+package seedu.module.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.model.task.Task;
+import seedu.module.testutil.TaskBuilder;
+
+public class WorkloadTimelineTest {
+
+    private static final LocalDate FEBRUARY_START = LocalDate.of(2021, 2, 1);
+    private static final LocalDate MARCH_END = LocalDate.of(2021, 3, 31);
+
+    private final WorkloadTimeline timeline = new WorkloadTimeline();
+
+    @Test
+    public void getWorkloadBetween_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timeline.getWorkloadBetween(null, MARCH_END));
+        assertThrows(NullPointerException.class, () -> timeline.getWorkloadBetween(FEBRUARY_START, null));
+    }
+
+    @Test
+    public void getWorkloadBetween_noTasks_returnsZero() {
+        assertEquals(0, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+        assertEquals(Optional.empty(), timeline.getBusiestWeekBetween(FEBRUARY_START, MARCH_END));
+    }
+
+    @Test
+    public void getWorkloadBetween_tasksAdded_sumsWorkloadOfTasksNotDone() {
+        // QUIZ: 1 on 2021-02-01, PROJECT: 3 on 2021-02-28, TUTORIAL: 2 on 2021-03-02, TP is done
+        List.of(QUIZ, PROJECT, TUTORIAL, TP).forEach(timeline::addTask);
+
+        assertEquals(6, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+        assertEquals(4, timeline.getWorkloadBetween(FEBRUARY_START, LocalDate.of(2021, 2, 28)));
+        assertEquals(5, timeline.getWorkloadBetween(LocalDate.of(2021, 2, 2), MARCH_END));
+
+        // single day
+        assertEquals(1, timeline.getWorkloadBetween(FEBRUARY_START, FEBRUARY_START));
+
+        // empty range
+        assertEquals(0, timeline.getWorkloadBetween(MARCH_END, FEBRUARY_START));
+    }
+
+    @Test
+    public void removeTask_taskRemoved_workloadRemoved() {
+        timeline.addTask(PROJECT);
+        timeline.addTask(TUTORIAL);
+        timeline.removeTask(PROJECT);
+        assertEquals(2, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+    }
+
+    @Test
+    public void addTask_deadlinesFarApart_allWorkloadKept() {
+        Task pastTask = new TaskBuilder(PROJECT).withDeadline("1990-01-01").build();
+        Task futureTask = new TaskBuilder(TUTORIAL).withDeadline("2060-12-31").build();
+        timeline.addTask(QUIZ);
+        timeline.addTask(futureTask);
+        timeline.addTask(pastTask);
+
+        assertEquals(6, timeline.getWorkloadBetween(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1)));
+        assertEquals(3, timeline.getWorkloadBetween(LocalDate.of(1990, 1, 1), LocalDate.of(1990, 1, 1)));
+        assertEquals(1, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+        assertEquals(2, timeline.getWorkloadBetween(LocalDate.of(2060, 12, 31), LocalDate.of(2060, 12, 31)));
+    }
+
+    @Test
+    public void addTask_deadlinesAtEndsOfSupportedYears_allWorkloadKept() {
+        Task firstDayTask = new TaskBuilder(PROJECT).withDeadline("0000-01-01").build();
+        Task lastDayTask = new TaskBuilder(TUTORIAL).withDeadline("9999-12-31").build();
+        List.of(firstDayTask, QUIZ, lastDayTask).forEach(timeline::addTask);
+
+        assertEquals(6, timeline.getWorkloadBetween(LocalDate.of(0, 1, 1), LocalDate.of(9999, 12, 31)));
+        assertEquals(Optional.of(LocalDate.of(-1, 12, 27)),
+                timeline.getBusiestWeekBetween(LocalDate.of(0, 1, 1), LocalDate.of(9999, 12, 31)));
+
+        timeline.removeTask(firstDayTask);
+        assertEquals(3, timeline.getWorkloadBetween(LocalDate.of(0, 1, 1), LocalDate.of(9999, 12, 31)));
+        assertEquals(Optional.of(LocalDate.of(9999, 12, 27)),
+                timeline.getBusiestWeekBetween(LocalDate.of(0, 1, 1), LocalDate.of(9999, 12, 31)));
+    }
+
+    @Test
+    public void removeTask_lastTaskOnDayRemoved_otherDaysKept() {
+        Task otherQuiz = new TaskBuilder(QUIZ).withName("Other quiz").build();
+        List.of(QUIZ, otherQuiz, PROJECT, TUTORIAL).forEach(timeline::addTask);
+        timeline.removeTask(QUIZ);
+        timeline.removeTask(otherQuiz);
+        timeline.removeTask(TUTORIAL);
+
+        assertEquals(3, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+        assertEquals(0, timeline.getWorkloadBetween(FEBRUARY_START, FEBRUARY_START));
+        timeline.addTask(QUIZ);
+        assertEquals(1, timeline.getWorkloadBetween(FEBRUARY_START, FEBRUARY_START));
+    }
+
+    @Test
+    public void rebuild_tasks_sameAsAddingEachTask() {
+        Task otherQuiz = new TaskBuilder(QUIZ).withName("Other quiz").build();
+        List<Task> tasks = List.of(TUTORIAL, QUIZ, TP, otherQuiz, PROJECT);
+        WorkloadTimeline expectedTimeline = new WorkloadTimeline();
+        tasks.forEach(expectedTimeline::addTask);
+
+        timeline.addTask(TUTORIAL);
+        timeline.rebuild(tasks);
+        for (LocalDate day = FEBRUARY_START; !day.isAfter(MARCH_END); day = day.plusDays(1)) {
+            assertEquals(expectedTimeline.getWorkloadBetween(FEBRUARY_START, day),
+                    timeline.getWorkloadBetween(FEBRUARY_START, day));
+        }
+    }
+
+    @Test
+    public void getBusiestWeekBetween_tasksAdded_returnsMondayOfBusiestWeek() {
+        List.of(QUIZ, PROJECT, TUTORIAL).forEach(timeline::addTask);
+
+        // PROJECT is due on Sunday 2021-02-28, in the week starting on 2021-02-22
+        assertEquals(Optional.of(LocalDate.of(2021, 2, 22)), timeline.getBusiestWeekBetween(FEBRUARY_START, MARCH_END));
+
+        // only the days of a week within the range count
+        assertEquals(Optional.of(LocalDate.of(2021, 3, 1)),
+                timeline.getBusiestWeekBetween(LocalDate.of(2021, 3, 1), MARCH_END));
+        assertEquals(Optional.of(LocalDate.of(2021, 2, 1)),
+                timeline.getBusiestWeekBetween(FEBRUARY_START, LocalDate.of(2021, 2, 27)));
+    }
+
+    @Test
+    public void applyChange_changes_workloadUpdated() {
+        timeline.applyChange(ModuleBookChange.reset(List.of(QUIZ, PROJECT)));
+        assertEquals(4, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+
+        // task marked as done -> workload removed
+        Task doneProject = new TaskBuilder(PROJECT).withDoneStatus("true").build();
+        timeline.applyChange(ModuleBookChange.replaced(PROJECT, doneProject));
+        assertEquals(1, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+
+        timeline.applyChange(ModuleBookChange.added(List.of(TUTORIAL)));
+        timeline.applyChange(ModuleBookChange.removed(QUIZ));
+        assertEquals(2, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+
+        timeline.applyChange(ModuleBookChange.reset(List.of()));
+        assertEquals(0, timeline.getWorkloadBetween(FEBRUARY_START, MARCH_END));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.module.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.module.testutil.Assert.assertThrows;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary dictionary = new TagDictionary();
+
+    @Test
+    public void acquireCode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.acquireCode(null));
+        assertThrows(NullPointerException.class, () -> dictionary.findCode(null));
+    }
+
+    @Test
+    public void acquireCode_newTags_givesCodesInOrder() {
+        assertEquals(0, dictionary.acquireCode(new Tag("first")));
+        assertEquals(1, dictionary.acquireCode(new Tag("second")));
+        assertEquals(0, dictionary.acquireCode(new Tag("first")));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void acquireCode_tagsDifferingInCase_shareCode() {
+        int code = dictionary.acquireCode(new Tag("midterm"));
+        assertEquals(code, dictionary.acquireCode(new Tag("Midterm")));
+        assertEquals(code, dictionary.findCode(new Tag("MIDTERM")));
+    }
+
+    @Test
+    public void findCode_dictionaryLockedByAnotherThread_codeFound() throws Exception {
+        int code = dictionary.acquireCode(new Tag("midterm"));
+        FutureTask<Integer> lookup = new FutureTask<>(() -> dictionary.findCode(new Tag("midterm")));
+        synchronized (dictionary) {
+            new Thread(lookup).start();
+            assertEquals(code, lookup.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void findCode_unseenTag_returnsMinusOne() {
+        assertEquals(-1, dictionary.findCode(new Tag("unseen")));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    public void releaseCodes_lastUseReleased_codeFreedAndGivenOutAgain() {
+        int firstCode = dictionary.acquireCode(new Tag("first"));
+        dictionary.acquireCode(new Tag("first"));
+        int secondCode = dictionary.acquireCode(new Tag("second"));
+
+        // one use left -> code kept
+        dictionary.releaseCodes(new int[] {firstCode});
+        assertEquals(firstCode, dictionary.findCode(new Tag("first")));
+
+        dictionary.releaseCodes(new int[] {firstCode});
+        assertEquals(-1, dictionary.findCode(new Tag("first")));
+        assertEquals(1, dictionary.size());
+
+        // smallest free code given out first
+        assertEquals(firstCode, dictionary.acquireCode(new Tag("third")));
+        assertEquals(secondCode + 1, dictionary.acquireCode(new Tag("fourth")));
+    }
+
+    @Test
+    public void acquireCode_tagNotKeptAlive() throws InterruptedException {
+        Tag tag = new Tag("collectable");
+        dictionary.acquireCode(tag);
+        WeakReference<Tag> reference = new WeakReference<>(tag);
+        tag = null;
+
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        assertNotEquals(-1, dictionary.findCode(new Tag("collectable")));
+    }
+
+    @Test
+    public void getDictionary_returnsSharedDictionary() {
+        TagDictionary shared = TagDictionary.getDictionary();
+        assertSame(shared, TagDictionary.getDictionary());
+    }
+}
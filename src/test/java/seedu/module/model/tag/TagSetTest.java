@@ -0,0 +1,118 @@
+package seedu.module.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FIRST = new Tag("tagSetFirst");
+    private static final Tag SECOND = new Tag("tagSetSecond");
+    private static final Tag THIRD = new Tag("tagSetThird");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of((List<Tag>) null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(FIRST, null)));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(new ArrayList<>()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameTagSet() {
+        TagSet tagSet = TagSet.of(FIRST, SECOND);
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void of_tagsDifferingInCase_keepsFirstTag() {
+        TagSet tagSet = TagSet.of(new Tag("TagSetCase"), new Tag("tagsetcase"));
+        assertEquals(1, tagSet.size());
+        assertEquals("[TagSetCase]", tagSet.iterator().next().toString());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(FIRST, SECOND);
+        assertTrue(tagSet.contains(FIRST));
+        assertTrue(tagSet.contains(new Tag("TAGSETSECOND")));
+        assertFalse(tagSet.contains(THIRD));
+        assertFalse(tagSet.contains(new Tag("tagSetNeverSeenBefore")));
+        assertFalse(tagSet.contains("tagSetFirst"));
+    }
+
+    @Test
+    public void containsAllAndContainsAny() {
+        TagSet firstAndSecond = TagSet.of(FIRST, SECOND);
+        TagSet secondAndThird = TagSet.of(SECOND, THIRD);
+
+        assertTrue(firstAndSecond.containsAll(TagSet.of(SECOND)));
+        assertTrue(firstAndSecond.containsAll(TagSet.EMPTY));
+        assertFalse(firstAndSecond.containsAll(secondAndThird));
+
+        assertTrue(firstAndSecond.containsAny(secondAndThird));
+        assertFalse(firstAndSecond.containsAny(TagSet.of(THIRD)));
+        assertFalse(firstAndSecond.containsAny(TagSet.EMPTY));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(FIRST);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(SECOND));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FIRST));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(FIRST, SECOND);
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(SECOND, FIRST));
+
+        // same tags in a different order -> returns true
+        assertTrue(tagSet.equals(TagSet.of(SECOND, FIRST)));
+
+        // equal to other sets with the same tags, both ways
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tagSet.equals(TagSet.of(FIRST)));
+        assertFalse(tagSet.equals(TagSet.EMPTY));
+        assertFalse(tagSet.equals(null));
+    }
+
+    @Test
+    public void of_tagSetNoLongerReachable_codesFreed() throws InterruptedException {
+        Tag unusedTag = new Tag("tagSetNoLongerUsed");
+        TagSet tagSet = TagSet.of(unusedTag, FIRST);
+        TagDictionary dictionary = TagDictionary.getDictionary();
+        assertTrue(dictionary.findCode(unusedTag) >= 0);
+        TagSet otherTagSet = TagSet.of(FIRST);
+        tagSet = null;
+
+        for (int i = 0; i < 100 && dictionary.findCode(unusedTag) >= 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(-1, dictionary.findCode(unusedTag));
+
+        // code of a tag still in a reachable set -> kept
+        assertTrue(otherTagSet.contains(FIRST));
+    }
+}
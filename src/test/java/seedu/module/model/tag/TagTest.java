@@ -2,6 +2,7 @@ package seedu.module.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
@@ -53,4 +54,19 @@ public class TagTest {
 
         assertEquals(firstTag.hashCode(), firstTagLowerCase.hashCode());
     }
+
+    @Test
+    public void of_validTagName_returnsInternedTag() {
+        Tag tag = Tag.of("midterm");
+        assertSame(tag, Tag.of("midterm"));
+        assertEquals(new Tag("midterm"), tag);
+
+        // tags differing only in case are equal, but keep their own names
+        Tag capitalisedTag = Tag.of("Midterm");
+        assertEquals(tag, capitalisedTag);
+        assertEquals("[Midterm]", capitalisedTag.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("mid term"));
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.module.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.PAQ;
+import static seedu.module.testutil.TypicalTasks.PROJECT;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.REVIEW;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.module.testutil.TaskBuilder;
+
+public class DeadlineIndexTest {
+
+    private final DeadlineIndex deadlineIndex = new DeadlineIndex();
+
+    @BeforeEach
+    public void setUp() {
+        // added out of deadline order
+        deadlineIndex.add(PAQ); // 03-05 23:59
+        deadlineIndex.add(QUIZ); // 02-01 12:00
+        deadlineIndex.add(TUTORIAL); // 03-02 23:59
+        deadlineIndex.add(PROJECT); // 02-28 23:59
+    }
+
+    @Test
+    public void add_nullTask_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> deadlineIndex.add(null));
+    }
+
+    @Test
+    public void getTasksDueBetween_validRange_returnsTasksInDeadlineOrder() {
+        assertEquals(Arrays.asList(QUIZ, PROJECT, TUTORIAL, PAQ),
+                deadlineIndex.getTasksDueBetween(new Time("2021-01-01"), new Time("2021-12-31")));
+
+        // bounds are inclusive
+        assertEquals(Arrays.asList(PROJECT, TUTORIAL),
+                deadlineIndex.getTasksDueBetween(new Time("2021-02-28 23:59"), new Time("2021-03-02 23:59")));
+    }
+
+    @Test
+    public void getTasksDueBetween_emptyOrReversedRange_returnsEmptyList() {
+        assertEquals(Collections.emptyList(),
+                deadlineIndex.getTasksDueBetween(new Time("2021-03-03"), new Time("2021-03-04")));
+        assertEquals(Collections.emptyList(),
+                deadlineIndex.getTasksDueBetween(new Time("2021-12-31"), new Time("2021-01-01")));
+    }
+
+    @Test
+    public void getTasksDueBetween_sameDeadline_returnsAllTasks() {
+        // REVIEW is due on 03-02 00:00, which is the same time as a date-only deadline on 03-02
+        Task sameDeadlineTask = new TaskBuilder(QUIZ).withName("Same deadline").withDeadline("2021-03-02").build();
+        deadlineIndex.add(REVIEW);
+        deadlineIndex.add(sameDeadlineTask);
+        assertEquals(Arrays.asList(REVIEW, sameDeadlineTask),
+                deadlineIndex.getTasksDueBetween(new Time("2021-03-02"), new Time("2021-03-02 00:00")));
+    }
+
+    @Test
+    public void remove_existingTask_removesOnlyThatTask() {
+        deadlineIndex.remove(PROJECT);
+        assertEquals(3, deadlineIndex.size());
+        assertEquals(Arrays.asList(QUIZ, TUTORIAL, PAQ),
+                deadlineIndex.getTasksDueBetween(new Time("2021-01-01"), new Time("2021-12-31")));
+
+        // task not in index -> nothing removed
+        deadlineIndex.remove(REVIEW);
+        assertEquals(3, deadlineIndex.size());
+    }
+
+    @Test
+    public void clear_removesAllTasks() {
+        deadlineIndex.clear();
+        assertEquals(0, deadlineIndex.size());
+        assertEquals(Collections.emptyList(),
+                deadlineIndex.getTasksDueBetween(new Time("2021-01-01"), new Time("2021-12-31")));
+    }
+}
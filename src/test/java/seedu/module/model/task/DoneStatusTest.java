@@ -2,6 +2,7 @@ package seedu.module.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
@@ -50,4 +51,14 @@ public class DoneStatusTest {
         //EP: Different object types
         assertFalse(firstDoneStatus.equals(somethingElse));
     }
+
+    @Test
+    public void of_returnsCanonicalDoneStatus() {
+        assertSame(DoneStatus.DONE, DoneStatus.of(true));
+        assertSame(DoneStatus.NOT_DONE, DoneStatus.of(false));
+        assertSame(DoneStatus.DONE, DoneStatus.of("true"));
+        assertSame(DoneStatus.NOT_DONE, DoneStatus.of("false"));
+        assertEquals(new DoneStatus("true"), DoneStatus.DONE);
+        assertThrows(IllegalArgumentException.class, () -> DoneStatus.of("done"));
+    }
 }
@@ -0,0 +1,97 @@
+package seedu.module.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class ModuleCatalogTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ModuleCatalogTest");
+
+    private final ModuleCatalog catalog = ModuleCatalog.of(Arrays.asList("CS3243", "CS2103T", "CS2101", "IS1103"));
+
+    @Test
+    public void ofBundledCatalog_containsBundledModules() {
+        ModuleCatalog bundledCatalog = ModuleCatalog.ofBundledCatalog();
+        assertEquals(26, bundledCatalog.size());
+        assertTrue(bundledCatalog.contains("CS2103T"));
+        assertFalse(bundledCatalog.contains("CSG21033GG@T"));
+    }
+
+    @Test
+    public void of_invalidAndDuplicateCodes_leftOut() {
+        ModuleCatalog catalogWithInvalidCodes = ModuleCatalog.of(Arrays.asList("CS3243", "cs3243", "CS3243", ""));
+        assertEquals(1, catalogWithInvalidCodes.size());
+        assertTrue(catalogWithInvalidCodes.contains("CS3243"));
+        assertFalse(catalogWithInvalidCodes.contains("cs3243"));
+    }
+
+    @Test
+    public void withModuleCodesFrom_validFile_modulesAdded() throws Exception {
+        ModuleCatalog extendedCatalog = catalog.withModuleCodesFrom(TEST_DATA_FOLDER.resolve("extraModules.txt"));
+        assertEquals(5, extendedCatalog.size());
+        assertTrue(extendedCatalog.contains("CS4231"));
+        assertTrue(extendedCatalog.contains("CS3243"));
+    }
+
+    @Test
+    public void withModuleCodesFrom_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                catalog.withModuleCodesFrom(TEST_DATA_FOLDER.resolve("missing.txt")));
+    }
+
+    @Test
+    public void getModule() {
+        // supported code -> same canonical module every time
+        Optional<Module> module = catalog.getModule("CS3243");
+        assertTrue(module.isPresent());
+        assertSame(module.get(), catalog.getModule("CS3243").get());
+
+        // unsupported code -> empty
+        assertEquals(Optional.empty(), catalog.getModule("CS4231"));
+    }
+
+    @Test
+    public void ordinalOf_modulesInLexicographicOrder() {
+        assertEquals(0, catalog.ordinalOf(catalog.getModule("CS2101").get()));
+        assertEquals(1, catalog.ordinalOf(catalog.getModule("CS2103T").get()));
+        assertEquals(3, catalog.ordinalOf(catalog.getModule("IS1103").get()));
+        assertEquals(-1, ModuleCatalog.of(Collections.emptyList()).ordinalOf(new Module("CS3243")));
+    }
+
+    @Test
+    public void getModulesWithPrefix() {
+        // common prefix -> all matching modules in lexicographic order
+        assertEquals(codesOf(catalog.getModulesWithPrefix("CS2")), Arrays.asList("CS2101", "CS2103T"));
+
+        // prefix in different case -> matches
+        assertEquals(codesOf(catalog.getModulesWithPrefix("is")), Arrays.asList("IS1103"));
+
+        // whole code -> only that module
+        assertEquals(codesOf(catalog.getModulesWithPrefix("CS2103T")), Arrays.asList("CS2103T"));
+
+        // empty prefix -> all modules
+        assertEquals(4, catalog.getModulesWithPrefix("").size());
+
+        // no match or invalid characters -> no modules
+        assertEquals(Collections.emptyList(), catalog.getModulesWithPrefix("CS4"));
+        assertEquals(Collections.emptyList(), catalog.getModulesWithPrefix("CS-"));
+    }
+
+    private static List<String> codesOf(List<Module> modules) {
+        return modules.stream().map(Module::toString).collect(Collectors.toList());
+    }
+}
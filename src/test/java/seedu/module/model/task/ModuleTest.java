@@ -2,6 +2,7 @@ package seedu.module.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
@@ -20,6 +21,18 @@ public class ModuleTest {
         assertThrows(IllegalArgumentException.class, () -> new Module(invalidModule));
     }
 
+    @Test
+    public void of_supportedModule_returnsCanonicalModule() {
+        assertSame(Module.of("CS2103T"), Module.of("CS2103T"));
+        assertEquals(new Module("CS2103T"), Module.of("CS2103T"));
+    }
+
+    @Test
+    public void of_invalidOrUnsupportedModule_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Module.of("CS11111"));
+        assertThrows(IllegalArgumentException.class, () -> Module.of("CS4231"));
+    }
+
     @Test
     public void isValidModule() {
         // null module
@@ -73,6 +73,10 @@ public class NameTest {
         //EP: Different object, different values
         assertTrue(firstName.compareTo(secondName) < 0);
         assertTrue(secondName.compareTo(firstName) > 0);
+
+        //EP: Same value in different case
+        assertTrue(new Name("first name").compareTo(firstName) == 0);
+        assertTrue(new Name("FURTHER").compareTo(firstName) > 0);
     }
 
     @Test
@@ -3,6 +3,7 @@ package seedu.module.model.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
@@ -80,4 +81,12 @@ public class RecurrenceTest {
 
         assertEquals(Objects.hash(recurrenceString, recurrenceType), recurrenceObject.hashCode());
     }
+
+    @Test
+    public void of_validRecurrence_returnsCanonicalRecurrence() {
+        assertSame(Recurrence.of("daily"), Recurrence.of("daily"));
+        assertSame(Recurrence.of("weekly"), Recurrence.of(" Weekly "));
+        assertEquals(new Recurrence("biweekly"), Recurrence.of("biweekly"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.of("monthly"));
+    }
 }
@@ -0,0 +1,203 @@
+package seedu.module.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.module.testutil.TypicalTasks.MIDTERM;
+import static seedu.module.testutil.TypicalTasks.OP;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TUTORIAL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.module.testutil.TaskBuilder;
+
+public class SortedTaskListTest {
+
+    private static final Comparator<Task> BY_DEADLINE = new Task.DeadlineComparator();
+
+    private final ObservableList<Task> source = FXCollections.observableArrayList();
+
+    @Test
+    public void get_noComparator_sameOrderAsSource() {
+        source.addAll(MIDTERM, QUIZ);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        source.add(1, OP);
+        assertEquals(List.of(MIDTERM, OP, QUIZ), sortedTasks);
+        assertEquals(2, sortedTasks.getSourceIndex(2));
+        assertEquals(1, sortedTasks.getViewIndex(1));
+    }
+
+    @Test
+    public void setComparator_unsortedTasks_sortedWithOnePermutation() {
+        source.addAll(MIDTERM, OP, QUIZ, TUTORIAL);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        sortedTasks.addListener((ListChangeListener<Task>) changes::add);
+
+        sortedTasks.setComparator(BY_DEADLINE);
+
+        assertEquals(List.of(QUIZ, TUTORIAL, OP, MIDTERM), sortedTasks);
+        assertEquals(source, List.of(MIDTERM, OP, QUIZ, TUTORIAL));
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Task> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasPermutated());
+        assertEquals(3, change.getPermutation(0));
+        assertEquals(0, change.getPermutation(2));
+    }
+
+    @Test
+    public void setComparator_alreadySorted_noChangePublished() {
+        source.addAll(QUIZ, TUTORIAL, OP);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        sortedTasks.addListener((ListChangeListener<Task>) changes::add);
+
+        sortedTasks.setComparator(BY_DEADLINE);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void setComparator_null_sourceOrderRestored() {
+        source.addAll(MIDTERM, QUIZ);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        sortedTasks.setComparator(BY_DEADLINE);
+        source.add(OP);
+        sortedTasks.setComparator(null);
+        assertEquals(List.of(MIDTERM, QUIZ, OP), sortedTasks);
+    }
+
+    @Test
+    public void setComparator_tiedTasks_keepSourceOrder() {
+        Task sameDeadlineAsQuiz = new TaskBuilder(TUTORIAL).withDeadline(QUIZ.getDeadline().toString()).build();
+        source.addAll(MIDTERM, sameDeadlineAsQuiz, QUIZ);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        sortedTasks.setComparator(BY_DEADLINE);
+        assertEquals(List.of(sameDeadlineAsQuiz, QUIZ, MIDTERM), sortedTasks);
+
+        source.remove(sameDeadlineAsQuiz);
+        source.add(0, sameDeadlineAsQuiz);
+        assertEquals(List.of(sameDeadlineAsQuiz, QUIZ, MIDTERM), sortedTasks);
+        source.remove(sameDeadlineAsQuiz);
+        source.add(sameDeadlineAsQuiz);
+        assertEquals(List.of(QUIZ, sameDeadlineAsQuiz, MIDTERM), sortedTasks);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_viewSortedAndChangesPublished() {
+        Random random = new Random(2103);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        sortedTasks.setComparator(BY_DEADLINE);
+        List<Task> publishedTasks = followChanges(sortedTasks);
+
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !source.isEmpty()) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 1 && !source.isEmpty()) {
+                source.set(random.nextInt(source.size()), randomTask(random, i));
+            } else if (operation == 2) {
+                source.setAll(randomTasks(random, random.nextInt(20)));
+            } else {
+                source.addAll(random.nextInt(source.size() + 1), randomTasks(random, random.nextInt(3)));
+            }
+            assertEquals(sortedBySourceOrder(source), sortedTasks);
+            assertEquals(sortedTasks, publishedTasks);
+            for (int j = 0; j < sortedTasks.size(); j++) {
+                assertEquals(j, sortedTasks.getViewIndex(sortedTasks.getSourceIndex(j)));
+            }
+        }
+    }
+
+    @Test
+    public void setComparator_manyTasks_sameAsSortingSequentially() {
+        source.setAll(randomTasks(new Random(2103), 20000));
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        List<Task> publishedTasks = followChanges(sortedTasks);
+
+        sortedTasks.setComparator(BY_DEADLINE);
+
+        assertEquals(sortedBySourceOrder(source), sortedTasks);
+        assertEquals(sortedTasks, publishedTasks);
+    }
+
+    @Test
+    public void sourceChanged_taskAddedOrEdited_placedWithoutChangingOtherTasks() {
+        source.addAll(MIDTERM, QUIZ);
+        SortedTaskList sortedTasks = new SortedTaskList(source);
+        sortedTasks.setComparator(BY_DEADLINE);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        sortedTasks.addListener((ListChangeListener<Task>) changes::add);
+
+        source.add(0, OP);
+        assertEquals(List.of(QUIZ, OP, MIDTERM), sortedTasks);
+        assertEquals(0, sortedTasks.getSourceIndex(1));
+        assertEquals(1, sortedTasks.getViewIndex(0));
+        Task editedOp = new TaskBuilder(OP).withDeadline(TUTORIAL.getDeadline().toString()).build();
+        source.set(0, editedOp);
+        assertEquals(List.of(QUIZ, editedOp, MIDTERM), sortedTasks);
+
+        assertEquals(2, changes.size());
+        ListChangeListener.Change<? extends Task> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertEquals(1, change.getFrom());
+        assertEquals(1, change.getAddedSize());
+        assertEquals(0, change.getRemovedSize());
+    }
+
+    /**
+     * Returns {@code tasks} sorted by deadline, with ties in their order in {@code tasks}.
+     */
+    private static List<Task> sortedBySourceOrder(List<Task> tasks) {
+        return tasks.stream().sorted(BY_DEADLINE).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a list that applies every change published by {@code list} to a copy of it.
+     */
+    private static List<Task> followChanges(ObservableList<Task> list) {
+        List<Task> copy = new ArrayList<>(list);
+        list.addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<Task> permuted = new ArrayList<>(copy.subList(from, change.getTo()));
+                    for (int i = from; i < change.getTo(); i++) {
+                        copy.set(change.getPermutation(i), permuted.get(i - from));
+                    }
+                } else if (!change.wasUpdated()) {
+                    List<Task> removed = copy.subList(from, from + change.getRemovedSize());
+                    assertEquals(change.getRemoved(), removed);
+                    removed.clear();
+                    copy.addAll(from, change.getAddedSubList());
+                }
+            }
+        });
+        return copy;
+    }
+
+    private static Task randomTask(Random random, int id) {
+        return new TaskBuilder(QUIZ).withName("Task " + id)
+                .withDeadline(QUIZ.getDeadline().plusDays(random.nextInt(30)).toString()).build();
+    }
+
+    private static List<Task> randomTasks(Random random, int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(randomTask(random, random.nextInt()));
+        }
+        return tasks;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.module.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_DEADLINE_LAB;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_DEADLINE_PRACTICAL;
@@ -24,6 +25,7 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 
 import seedu.module.commons.core.optionalfield.OptionalField;
+import seedu.module.model.tag.Tag;
 import seedu.module.testutil.TaskBuilder;
 import seedu.module.testutil.TypicalTasks;
 
@@ -163,6 +165,51 @@ public class TaskTest {
         assertFalse(QUIZ.equals(editedQuiz));
     }
 
+    @Test
+    public void getFingerprint() {
+        // same values -> same fingerprint and hash code
+        Task quizCopy = new TaskBuilder(QUIZ).build();
+        assertEquals(QUIZ.getFingerprint(), quizCopy.getFingerprint());
+        assertEquals(QUIZ.hashCode(), quizCopy.hashCode());
+
+        // tags in different case -> same fingerprint
+        Task taggedQuiz = new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH).build();
+        Task lowerCaseTaggedQuiz = new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH.toLowerCase()).build();
+        assertEquals(taggedQuiz.getFingerprint(), lowerCaseTaggedQuiz.getFingerprint());
+
+        // different values -> different fingerprints
+        assertNotEquals(QUIZ.getFingerprint(), new TaskBuilder(QUIZ).withName(VALID_TASK_NAME_PRACTICAL).build()
+                .getFingerprint());
+        assertNotEquals(QUIZ.getFingerprint(), new TaskBuilder(QUIZ).deactivateStartTime().build().getFingerprint());
+        assertNotEquals(QUIZ.getFingerprint(), taggedQuiz.getFingerprint());
+        assertNotEquals(QUIZ.getFingerprint(), Task.setDoneStatus(QUIZ, DoneStatus.DONE).getFingerprint());
+    }
+
+    @Test
+    public void hasTag() {
+        Task task = new TaskBuilder(QUIZ).withTags(VALID_TAG_PRIORITY_HIGH).build();
+
+        // same tag in different case -> returns true
+        assertTrue(task.hasTag(new Tag(VALID_TAG_PRIORITY_HIGH.toLowerCase())));
+
+        // different tag -> returns false
+        assertFalse(task.hasTag(new Tag("different")));
+    }
+
+    @Test
+    public void getId() {
+        // new tasks -> different ids
+        Task task = new TaskBuilder(QUIZ).build();
+        assertFalse(task.getId() == QUIZ.getId());
+
+        // derived tasks -> same id
+        assertEquals(QUIZ.getId(), Task.setDoneStatus(QUIZ, new DoneStatus(true)).getId());
+        assertEquals(QUIZ.getId(), Task.setTags(QUIZ, REVIEW.getTags()).getId());
+
+        // different id -> still equal
+        assertTrue(QUIZ.equals(task));
+    }
+
     @Test
     public void makeNextRecurringTaskTest() {
         //EP: recurrence is null
@@ -174,7 +221,7 @@ public class TaskTest {
         Time oldTime = LAB.getDeadline();
         Task lab = new TaskBuilder(LAB).withRecurrence(VALID_RECURRENCE_LAB).build();
         Time newTime = Task.getRecurringTime(lab, oldTime);
-        Task recurredLab = new TaskBuilder(lab).withDeadline(newTime.value).build();
+        Task recurredLab = new TaskBuilder(lab).withDeadline(newTime.toString()).build();
         // check if recurrence is successfully added and isSameTask property still holds
         Task newTask = Task.makeNextRecurringTask(lab, validOptionalRecurrence);
         assertEquals(newTask.getRecurrence(), recurredLab.getRecurrence());
@@ -198,7 +245,7 @@ public class TaskTest {
         // Recurring task. deadline updates successfully
         Task lab = new TaskBuilder(LAB).withRecurrence(VALID_RECURRENCE_LAB).build();
         Task taskToCheckWith = new TaskBuilder(lab)
-                .withDeadline(Task.getRecurringTime(lab, lab.getDeadline()).value)
+                .withDeadline(Task.getRecurringTime(lab, lab.getDeadline()).toString())
                 .build();
 
         assertTrue(taskToCheckWith.equals(Task.updateRecurrenceTask(lab)));
@@ -222,13 +269,14 @@ public class TaskTest {
         Task recurringLab = new TaskBuilder(LAB).withRecurrence(VALID_RECURRENCE_LAB).build();
         //EP: deadline is not expired
         Time nonExpiredDeadlineTime = Time.makeTimeObject(LocalDateTime.now());
-        Task nonExpiredRecurringLab = new TaskBuilder(recurringLab).withDeadline(nonExpiredDeadlineTime.value).build();
+        Task nonExpiredRecurringLab = new TaskBuilder(recurringLab)
+                .withDeadline(nonExpiredDeadlineTime.toString()).build();
 
         assertTrue(nonExpiredRecurringLab.getDeadline().equals(nonExpiredDeadlineTime));
 
         //EP: deadline is expired
         Time expiredDeadlineTime = Time.makeTimeObject(LocalDateTime.now().minusDays(1));
-        Task expiredRecurringLab = new TaskBuilder(recurringLab).withDeadline(expiredDeadlineTime.value).build();
+        Task expiredRecurringLab = new TaskBuilder(recurringLab).withDeadline(expiredDeadlineTime.toString()).build();
 
         assertTrue(Task.getRecurringTime(expiredRecurringLab, expiredDeadlineTime).equals(nonExpiredDeadlineTime));
     }
@@ -0,0 +1,88 @@
+package seedu.module.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.module.testutil.Assert.assertThrows;
+import static seedu.module.testutil.TypicalTasks.MIDTERM;
+import static seedu.module.testutil.TypicalTasks.QUIZ;
+import static seedu.module.testutil.TypicalTasks.TP;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.module.testutil.TaskBuilder;
+
+public class TaskVectorTest {
+
+    private final TaskVector taskVector = new TaskVector();
+
+    @Test
+    public void snapshot_vectorChangedAfterSnapshot_snapshotUnchanged() {
+        taskVector.setAll(List.of(QUIZ, MIDTERM));
+        List<Task> snapshot = taskVector.snapshot();
+        taskVector.set(0, TP);
+        taskVector.remove(1);
+        taskVector.add(0, MIDTERM);
+
+        assertEquals(List.of(QUIZ, MIDTERM), snapshot);
+        assertEquals(List.of(MIDTERM, TP), taskVector.snapshot());
+    }
+
+    @Test
+    public void snapshot_vectorUnchanged_sameSnapshotReturned() {
+        taskVector.add(0, QUIZ);
+        assertSame(taskVector.snapshot(), taskVector.snapshot());
+    }
+
+    @Test
+    public void snapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        taskVector.add(0, QUIZ);
+        assertThrows(UnsupportedOperationException.class, () -> taskVector.snapshot().remove(0));
+    }
+
+    @Test
+    public void add_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> taskVector.add(1, QUIZ));
+    }
+
+    @Test
+    public void changes_randomChangesAndSnapshots_sameAsList() {
+        Random random = new Random(2103);
+        List<Task> expectedTasks = new ArrayList<>();
+        List<List<Task>> expectedSnapshots = new ArrayList<>();
+        List<List<Task>> snapshots = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            int operation = random.nextInt(10);
+            Task task = new TaskBuilder(QUIZ).withName("Task " + i).build();
+            if (operation < 2 && !expectedTasks.isEmpty()) {
+                int index = random.nextInt(expectedTasks.size());
+                expectedTasks.remove(index);
+                taskVector.remove(index);
+            } else if (operation < 4 && !expectedTasks.isEmpty()) {
+                int index = random.nextInt(expectedTasks.size());
+                expectedTasks.set(index, task);
+                taskVector.set(index, task);
+            } else if (operation == 4 && random.nextInt(20) == 0) {
+                expectedTasks.subList(random.nextInt(expectedTasks.size() + 1), expectedTasks.size()).clear();
+                taskVector.setAll(expectedTasks);
+            } else {
+                int index = random.nextInt(expectedTasks.size() + 1);
+                expectedTasks.add(index, task);
+                taskVector.add(index, task);
+            }
+
+            assertEquals(expectedTasks.size(), taskVector.size());
+            if (random.nextInt(10) == 0) {
+                expectedSnapshots.add(new ArrayList<>(expectedTasks));
+                snapshots.add(taskVector.snapshot());
+            }
+        }
+
+        assertEquals(expectedTasks, taskVector.snapshot());
+        assertEquals(expectedSnapshots, snapshots);
+    }
+}
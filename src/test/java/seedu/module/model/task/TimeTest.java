@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeTest {
@@ -57,5 +61,81 @@ public class TimeTest {
         assertTrue(Time.isValidTime("2021-03-17")); //to test for only date input
         assertTrue(Time.isValidTime("2024-02-29")); //to test for leap year
         assertTrue(Time.isValidTime("2016-02-29 15:15")); //to test for leap year with HH:mm
+        assertTrue(Time.isValidTime("2000-02-29")); //to test for leap year divisible by 400
+        assertTrue(Time.isValidTime("2021-12-31 00:00")); //to test for earliest HH:mm
+
+        assertFalse(Time.isValidTime("1900-02-29")); //date input invalid for year divisible by 100
+        assertFalse(Time.isValidTime("2021-04-31")); //day is out of range for month
+        assertFalse(Time.isValidTime("2021-00-10")); //month is out of range
+        assertFalse(Time.isValidTime("2021-01-01 12:60")); //minute is out of range
+        assertFalse(Time.isValidTime("2021-01-01 24:00")); //hour is out of range
+        assertFalse(Time.isValidTime("2021-1-01 12:00")); //month not MM
+        assertFalse(Time.isValidTime("2021-01-01T12:00")); //date and time not separated by a space
+        assertFalse(Time.isValidTime("2021-01-01 12:00 PM")); //trailing text
+        assertFalse(Time.isValidTime("2021-01-01 ")); //trailing space
+        assertFalse(Time.isValidTime("+2021-01-01")); //signed year
+    }
+
+    @Test
+    public void toString_roundTripsTimeString() {
+        assertEquals("2021-03-17", new Time("2021-03-17").toString());
+        assertEquals("2021-03-17 09:05", new Time("2021-03-17 09:05").toString());
+        assertEquals("1969-12-31 23:59", new Time("1969-12-31 23:59").toString());
+    }
+
+    @Test
+    public void getTime_derivedFromEpochMinute() {
+        Time time = new Time("2021-03-17 09:05");
+        assertEquals(LocalDateTime.of(2021, 3, 17, 9, 5), time.getTime());
+        assertEquals(LocalDate.of(2021, 3, 17), time.getDate());
+        assertEquals(LocalDate.of(2021, 3, 17).toEpochDay(), time.getEpochDay());
+        assertEquals(LocalDate.of(1969, 12, 31), new Time("1969-12-31 23:59").getDate());
+        assertEquals(LocalDateTime.of(2021, 3, 17, 0, 0), new Time("2021-03-17").getTime());
+    }
+
+    @Test
+    public void makeTimeObject_dropsSecondsAndHasHoursMinutes() {
+        Time time = Time.makeTimeObject(LocalDateTime.of(2021, 3, 17, 9, 5, 30));
+        assertEquals(new Time("2021-03-17 09:05"), time);
+        assertTrue(time.hasHoursMinutes());
+    }
+
+    @Test
+    public void plusDays_keepsHoursMinutesField() {
+        assertEquals(new Time("2021-03-01"), new Time("2021-02-28").plusDays(1));
+        assertEquals(new Time("2024-03-07 23:59"), new Time("2024-02-29 23:59").plusDays(7));
+    }
+
+    @Test
+    public void equals() {
+        Time time = new Time("2021-03-17");
+
+        assertTrue(time.equals(new Time("2021-03-17")));
+        assertEquals(time.hashCode(), new Time("2021-03-17").hashCode());
+        assertTrue(time.equals(time));
+        assertFalse(time.equals(null));
+        assertFalse(time.equals("2021-03-17"));
+
+        // same instant, but only one has a HH:mm field
+        assertFalse(time.equals(new Time("2021-03-17 00:00")));
+        assertEquals(0, time.compareTo(new Time("2021-03-17 00:00")));
+    }
+
+    @Test
+    public void parse() {
+        assertEquals(Optional.of(new Time("2021-03-17 09:05")), Time.parse("2021-03-17 09:05"));
+        assertEquals(Optional.of(new Time("2021-03-17")), Time.parse("2021-03-17"));
+        assertEquals(Optional.empty(), Time.parse("2021-02-29"));
+        assertEquals(Optional.empty(), Time.parse(""));
+        assertThrows(NullPointerException.class, () -> Time.parse(null));
+    }
+
+    @Test
+    public void parse_everyDayOfSeveralCenturies_matchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1599, 1, 1); date.getYear() < 2401; date = date.plusDays(1)) {
+            Time time = Time.parse(date.toString()).get();
+            assertEquals(date.toEpochDay(), time.getEpochDay());
+            assertEquals(date, time.getDate());
+        }
     }
 }
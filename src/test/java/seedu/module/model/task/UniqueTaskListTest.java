@@ -2,6 +2,7 @@ package seedu.module.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_DESCRIPTION_PRACTICAL;
 import static seedu.module.logic.commands.CommandTestUtil.VALID_TAG_PRIORITY_HIGH;
@@ -10,12 +11,14 @@ import static seedu.module.testutil.TypicalTasks.MIDTERM;
 import static seedu.module.testutil.TypicalTasks.QUIZ;
 import static seedu.module.testutil.TypicalTasks.REVIEW;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.module.model.task.exceptions.DuplicateTaskException;
 import seedu.module.model.task.exceptions.TaskNotFoundException;
 import seedu.module.testutil.TaskBuilder;
@@ -60,6 +63,24 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(QUIZ));
     }
 
+    @Test
+    public void add_atIndex_taskInsertedAndLaterTasksStillFound() {
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.add(REVIEW);
+        uniqueTaskList.add(0, MIDTERM);
+        assertEquals(Arrays.asList(MIDTERM, QUIZ, REVIEW), uniqueTaskList.asUnmodifiableObservableList());
+
+        uniqueTaskList.remove(REVIEW);
+        uniqueTaskList.remove(QUIZ);
+        assertEquals(Collections.singletonList(MIDTERM), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_atIndexDuplicateTask_throwsDuplicateTaskException() {
+        uniqueTaskList.add(QUIZ);
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(0, QUIZ));
+    }
+
     @Test
     public void setTask_nullTargetTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTask(null, QUIZ));
@@ -112,6 +133,14 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTask(QUIZ, REVIEW));
     }
 
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.setTask(QUIZ, REVIEW);
+        assertFalse(uniqueTaskList.contains(QUIZ));
+        assertTrue(uniqueTaskList.contains(REVIEW));
+    }
+
     @Test
     public void remove_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.remove(null));
@@ -128,6 +157,32 @@ public class UniqueTaskListTest {
         uniqueTaskList.remove(QUIZ);
         UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertFalse(uniqueTaskList.contains(QUIZ));
+    }
+
+    @Test
+    public void remove_equalTaskWithDifferentId_removesTask() {
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.add(REVIEW);
+        uniqueTaskList.remove(new TaskBuilder(QUIZ).build());
+        uniqueTaskList.remove(REVIEW);
+        assertEquals(new UniqueTaskList(), uniqueTaskList);
+    }
+
+    @Test
+    public void remove_taskWithSameIdentityButDifferentFields_throwsTaskNotFoundException() {
+        uniqueTaskList.add(QUIZ);
+        Task editedQuiz = new TaskBuilder(QUIZ).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.remove(editedQuiz));
+        assertTrue(uniqueTaskList.contains(QUIZ));
+    }
+
+    @Test
+    public void setTasks_list_previousTasksNoLongerContained() {
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.setTasks(Collections.singletonList(REVIEW));
+        assertFalse(uniqueTaskList.contains(QUIZ));
+        assertTrue(uniqueTaskList.contains(REVIEW));
     }
 
     @Test
@@ -165,6 +220,134 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTasks));
     }
 
+    @Test
+    public void commitBatch_multipleChanges_singleChangePublished() {
+        uniqueTaskList.add(QUIZ);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        uniqueTaskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) changes::add);
+
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.add(REVIEW);
+        uniqueTaskList.remove(QUIZ);
+        uniqueTaskList.add(MIDTERM);
+
+        // changes are not published before the batch is committed
+        assertEquals(Collections.singletonList(QUIZ), uniqueTaskList.asUnmodifiableObservableList());
+        assertTrue(changes.isEmpty());
+
+        uniqueTaskList.commitBatch();
+        assertEquals(Arrays.asList(REVIEW, MIDTERM), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void commitBatch_nestedBatches_publishedOnOutermostCommit() {
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        uniqueTaskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) changes::add);
+
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.add(REVIEW);
+        uniqueTaskList.commitBatch();
+        assertTrue(changes.isEmpty());
+
+        uniqueTaskList.commitBatch();
+        assertEquals(Arrays.asList(QUIZ, REVIEW), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void commitBatch_noChanges_nothingPublished() {
+        uniqueTaskList.add(QUIZ);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        uniqueTaskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) changes::add);
+
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.commitBatch();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void equals_batchInProgress_comparesBatchContents() {
+        UniqueTaskList otherTaskList = new UniqueTaskList();
+        otherTaskList.add(QUIZ);
+        otherTaskList.add(REVIEW);
+
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.add(REVIEW);
+        assertTrue(uniqueTaskList.equals(otherTaskList));
+        assertEquals(otherTaskList.hashCode(), uniqueTaskList.hashCode());
+
+        uniqueTaskList.remove(QUIZ);
+        assertFalse(uniqueTaskList.equals(otherTaskList));
+        uniqueTaskList.commitBatch();
+    }
+
+    @Test
+    public void setTasks_replacementBatchInProgress_copiesBatchContents() {
+        UniqueTaskList replacement = new UniqueTaskList();
+        replacement.add(QUIZ);
+        replacement.beginBatch();
+        replacement.add(REVIEW);
+
+        uniqueTaskList.setTasks(replacement);
+        assertEquals(Arrays.asList(QUIZ, REVIEW), uniqueTaskList.asUnmodifiableObservableList());
+        assertTrue(uniqueTaskList.contains(REVIEW));
+        replacement.commitBatch();
+    }
+
+    @Test
+    public void asSnapshot_listChangedAfterSnapshot_snapshotUnchanged() {
+        uniqueTaskList.add(QUIZ);
+        List<Task> snapshot = uniqueTaskList.asSnapshot();
+        uniqueTaskList.add(REVIEW);
+        assertEquals(Collections.singletonList(QUIZ), snapshot);
+        assertEquals(Arrays.asList(QUIZ, REVIEW), uniqueTaskList.asSnapshot());
+    }
+
+    @Test
+    public void asSnapshot_listUnchanged_sameSnapshotReturned() {
+        uniqueTaskList.add(QUIZ);
+        assertSame(uniqueTaskList.asSnapshot(), uniqueTaskList.asSnapshot());
+
+        // batch not committed -> same snapshot
+        List<Task> snapshot = uniqueTaskList.asSnapshot();
+        uniqueTaskList.beginBatch();
+        uniqueTaskList.add(REVIEW);
+        assertSame(snapshot, uniqueTaskList.asSnapshot());
+        uniqueTaskList.commitBatch();
+        assertEquals(Arrays.asList(QUIZ, REVIEW), uniqueTaskList.asSnapshot());
+    }
+
+    @Test
+    public void asSnapshot_manyTasksChangedAfterSnapshot_snapshotUnchanged() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(new TaskBuilder(QUIZ).withName("Task " + i).build());
+        }
+        uniqueTaskList.setTasks(tasks);
+        List<Task> snapshot = uniqueTaskList.asSnapshot();
+
+        Task editedTask = new TaskBuilder(QUIZ).withName("Edited task").build();
+        uniqueTaskList.setTask(tasks.get(100), editedTask);
+        uniqueTaskList.remove(tasks.get(0));
+        uniqueTaskList.add(REVIEW);
+
+        assertEquals(tasks, snapshot);
+        List<Task> expectedTasks = new ArrayList<>(tasks.subList(1, tasks.size()));
+        expectedTasks.set(99, editedTask);
+        expectedTasks.add(REVIEW);
+        assertEquals(expectedTasks, uniqueTaskList.asSnapshot());
+    }
+
+    @Test
+    public void asSnapshot_modifyList_throwsUnsupportedOperationException() {
+        uniqueTaskList.add(QUIZ);
+        assertThrows(UnsupportedOperationException.class, () -> uniqueTaskList.asSnapshot().remove(0));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -192,4 +375,11 @@ public class UniqueTaskListTest {
         //EP: task is a recurring task
         assertTrue(uniqueTaskList.containsRecurringTask(MIDTERM));
     }
+
+    @Test
+    public void containsRecurringTask_taskWithSameIdentityButDifferentFields_returnsFalse() {
+        uniqueTaskList.add(MIDTERM);
+        Task editedMidterm = new TaskBuilder(MIDTERM).withDescription(VALID_DESCRIPTION_PRACTICAL).build();
+        assertFalse(uniqueTaskList.containsRecurringTask(editedMidterm));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.module.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.module.testutil.Assert.assertThrows;
 
@@ -105,4 +106,13 @@ public class WorkloadTest {
         Workload firstWorkload = new Workload("1");
         assertEquals(firstWorkload.hashCode(), firstWorkloadInteger.hashCode());
     }
+
+    @Test
+    public void of_validWorkload_returnsCanonicalWorkload() {
+        assertSame(Workload.of("1"), Workload.of("1"));
+        assertSame(Workload.of("3"), Workload.of("3"));
+        assertEquals(new Workload("2"), Workload.of("2"));
+        assertThrows(IllegalArgumentException.class, () -> Workload.of("4"));
+        assertThrows(NullPointerException.class, () -> Workload.of(null));
+    }
 }
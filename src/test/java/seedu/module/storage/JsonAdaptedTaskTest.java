@@ -177,5 +177,17 @@ public class JsonAdaptedTaskTest {
         assertEquals(nonRecurringMidterm, nonRecurringTask.toModelType());
     }
 
+    @Test
+    public void toModelType_validTaskDetails_keepsId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(MIDTERM);
+        assertEquals(MIDTERM.getId(), task.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTask task = new JsonAdaptedTask(-1L, VALID_NAME, VALID_START_TIME, VALID_DEADLINE, VALID_MODULE,
+                VALID_DESCRIPTION, VALID_WORKLOAD, VALID_DONE_STATUS, VALID_RECURRENCE, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Task.MESSAGE_ID_CONSTRAINTS, task::toModelType);
+    }
 
 }
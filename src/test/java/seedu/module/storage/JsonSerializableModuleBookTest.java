@@ -19,6 +19,8 @@ public class JsonSerializableModuleBookTest {
     private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksModuleBook.json");
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskModuleBook.json");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskModuleBook.json");
+    private static final Path DUPLICATE_TASK_AND_UNSUPPORTED_MODULE_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateTaskAndUnsupportedModuleModuleBook.json");
 
     @Test
     public void toModelType_typicalTasksFile_success() throws Exception {
@@ -44,4 +46,12 @@ public class JsonSerializableModuleBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateTaskBeforeUnsupportedModule_throwsDuplicateTaskMessage() throws Exception {
+        JsonSerializableModuleBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_TASK_AND_UNSUPPORTED_MODULE_FILE,
+                JsonSerializableModuleBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableModuleBook.MESSAGE_DUPLICATE_TASK,
+                dataFromFile::toModelType);
+    }
+
 }
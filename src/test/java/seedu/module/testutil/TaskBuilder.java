@@ -75,7 +75,7 @@ public class TaskBuilder {
      * Activate the {@code StartTime} of the {@code Task} that we are building.
      */
     public TaskBuilder activateStartTime() {
-        this.startTime = new OptionalField<>(new Time(this.deadline.time.minusHours(1)
+        this.startTime = new OptionalField<>(new Time(this.deadline.getTime().minusHours(1)
                 .format(DATE_TIME_FORMATTER_WITH_TIME)));
         return this;
     }
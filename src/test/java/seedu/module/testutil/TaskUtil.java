@@ -37,7 +37,7 @@ public class TaskUtil {
         sb.append(PREFIX_TASK_NAME + task.getName().fullName + " ");
         sb.append(PREFIX_MODULE + task.getModule().value + " ");
         sb.append(PREFIX_DESCRIPTION + task.getDescription().value + " ");
-        sb.append(PREFIX_DEADLINE + task.getDeadline().value + " ");
+        sb.append(PREFIX_DEADLINE + task.getDeadline().toString() + " ");
         sb.append(PREFIX_WORKLOAD + Integer.toString(task.getWorkload().getWorkloadLevel()) + " ");
         task.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -51,7 +51,7 @@ public class TaskUtil {
     public static String getEditTaskDescriptorDetails(EditTaskDescriptor descriptor) {
         StringBuilder sb = new StringBuilder();
         descriptor.getName().ifPresent(name -> sb.append(PREFIX_TASK_NAME).append(name.fullName).append(" "));
-        descriptor.getDeadline().ifPresent(deadline -> sb.append(PREFIX_DEADLINE).append(deadline.value).append(" "));
+        descriptor.getDeadline().ifPresent(deadline -> sb.append(PREFIX_DEADLINE).append(deadline).append(" "));
         descriptor.getModule().ifPresent(module -> sb.append(PREFIX_MODULE).append(module.value).append(" "));
         descriptor.getDescription()
             .ifPresent(description -> sb.append(PREFIX_DESCRIPTION).append(description.value).append(" "));
@@ -62,7 +62,7 @@ public class TaskUtil {
             if (time.isNull()) {
                 sb.append(PREFIX_START_TIME).append(" ");
             } else {
-                sb.append(PREFIX_START_TIME).append(time.getField().value).append(" ");
+                sb.append(PREFIX_START_TIME).append(time.getField()).append(" ");
             }
         }
         if (descriptor.getTags().isPresent()) {